@@ -0,0 +1,62 @@
+package com.codedrill.shoppingmall;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DB/Redis가 필요한 벤치마크용 애플리케이션
+ * - Testcontainers로 PostgreSQL, Redis를 띄우고 그 위에서 ShoppingMallApplication을 실행
+ * - SQL 로그는 측정에 섞이지 않도록 끔
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> postgres;
+    private final GenericContainer<?> redis;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(Map<String, Object> properties) {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        postgres.start();
+        redis.start();
+
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("spring.datasource.url", postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        defaults.put("spring.datasource.username", postgres.getUsername());
+        defaults.put("spring.datasource.password", postgres.getPassword());
+        defaults.put("spring.data.redis.host", redis.getHost());
+        defaults.put("spring.data.redis.port", redis.getMappedPort(6379));
+        defaults.put("spring.jpa.show-sql", false);
+        defaults.put("server.port", 0);
+        defaults.putAll(properties);
+
+        context = new SpringApplicationBuilder(ShoppingMallApplication.class)
+                .properties(defaults)
+                .run();
+    }
+
+    public static BenchmarkContext start() {
+        return new BenchmarkContext(Map.of());
+    }
+
+    public static BenchmarkContext start(Map<String, Object> properties) {
+        return new BenchmarkContext(properties);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        redis.stop();
+        postgres.stop();
+    }
+}
@@ -0,0 +1,63 @@
+package com.codedrill.shoppingmall.common.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccessToken 검증/파싱 비용 비교 (요청 하나당)
+ * - parseOnce: JwtUtil.parse() 한 번 (현재 JwtAuthenticationFilter)
+ * - parsePerClaim: validateToken + extractUserId/Email/UserName/Role처럼 claim마다 서명 검증과 파싱을 다시 하던 방식 (5회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "q4VJgR3e3gO9z+o0B2H8lZ9NsX7uUo3Vt2bXj9xJg1E=";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        jwtUtil.jwtSecretStr = SECRET;
+        jwtUtil.previousSecretStr = "";
+        jwtUtil.previousSecretValidUntilStr = "";
+        jwtUtil.rotationOverlap = Duration.ofHours(1);
+        jwtUtil.init();
+
+        token = jwtUtil.generateAccessToken(1L, "user@test.com", "테스트유저", "USER");
+    }
+
+    @Benchmark
+    public ParsedToken parseOnce() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public void parsePerClaim(Blackhole blackhole) {
+        Claims validated = jwtUtil.extractClaims(token);
+        blackhole.consume(validated.getExpiration());
+        blackhole.consume(Long.parseLong(jwtUtil.extractClaims(token).getSubject()));
+        blackhole.consume(jwtUtil.extractClaims(token).get("email", String.class));
+        blackhole.consume(jwtUtil.extractClaims(token).get("name", String.class));
+        blackhole.consume(jwtUtil.extractClaims(token).get("role", String.class));
+    }
+}
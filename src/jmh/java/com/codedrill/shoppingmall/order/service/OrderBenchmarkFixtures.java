@@ -0,0 +1,62 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.common.enums.EnumRole;
+import com.codedrill.shoppingmall.order.dto.OrderCreateRequest;
+import com.codedrill.shoppingmall.user.entity.User;
+import com.codedrill.shoppingmall.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+/**
+ * 주문 벤치마크 공통 데이터
+ */
+final class OrderBenchmarkFixtures {
+
+    // 측정 중에 재고가 떨어지지 않을 만큼
+    static final int UNLIMITED_STOCK = 1_000_000_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private OrderBenchmarkFixtures() {
+    }
+
+    /**
+     * id 1..count인 APPROVED 상품을 만듦
+     */
+    static void createProducts(JdbcTemplate jdbcTemplate, int count) {
+        jdbcTemplate.update("""
+                INSERT INTO products (id, status, name, price, stock, user_id, version, created_at, updated_at)
+                SELECT i, 'APPROVED', 'product-' || i, 1000, ?, 1, 0, now(), now()
+                FROM generate_series(1, ?) AS i
+                """, UNLIMITED_STOCK, count);
+    }
+
+    static PrincipalDetails createUser(UserRepository userRepository) {
+        String email = UUID.randomUUID() + "@test.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("벤치마크")
+                .role(EnumRole.USER)
+                .build());
+        return new PrincipalDetails(user.getId(), email, user.getName(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    /**
+     * 상품 firstProductId부터 itemCount개를 1개씩 주문
+     */
+    static OrderCreateRequest orderRequest(long firstProductId, int itemCount) {
+        List<Map<String, Object>> items = LongStream.range(firstProductId, firstProductId + itemCount)
+                .mapToObj(productId -> Map.<String, Object>of("productId", productId, "quantity", 1))
+                .toList();
+        return OBJECT_MAPPER.convertValue(Map.of("items", items), OrderCreateRequest.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.BenchmarkContext;
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.order.dto.OrderCreateRequest;
+import com.codedrill.shoppingmall.order.dto.OrderResponse;
+import com.codedrill.shoppingmall.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 항목 수별 주문 생성 처리량 (orders/s, 8 스레드)
+ * - 주문과 주문 항목 INSERT는 pooled sequence + JDBC batch로 저장
+ * - 스레드마다 다른 상품을 주문해서 재고 row lock 경쟁 없이 저장 비용만 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(OrderCreateBenchmark.THREADS)
+@Fork(1)
+public class OrderCreateBenchmark {
+
+    static final int THREADS = 8;
+    private static final int MAX_ITEMS = 50;
+
+    @Param({"1", "10", "50"})
+    private int itemsPerOrder;
+
+    private BenchmarkContext context;
+    private OrderService orderService;
+    private final AtomicInteger buyers = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        orderService = context.getBean(OrderService.class);
+        OrderBenchmarkFixtures.createProducts(context.getBean(JdbcTemplate.class), THREADS * MAX_ITEMS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Buyer {
+
+        private PrincipalDetails user;
+        private OrderCreateRequest request;
+
+        @Setup
+        public void setUp(OrderCreateBenchmark benchmark) {
+            user = OrderBenchmarkFixtures.createUser(benchmark.context.getBean(UserRepository.class));
+            long firstProductId = (long) benchmark.buyers.getAndIncrement() * MAX_ITEMS + 1;
+            request = OrderBenchmarkFixtures.orderRequest(firstProductId, benchmark.itemsPerOrder);
+        }
+    }
+
+    @Benchmark
+    public OrderResponse createOrder(Buyer buyer) {
+        return orderService.createOrder(buyer.request, buyer.user);
+    }
+}
@@ -0,0 +1,84 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.BenchmarkContext;
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.order.dto.OrderCreateRequest;
+import com.codedrill.shoppingmall.order.dto.OrderResponse;
+import com.codedrill.shoppingmall.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 차감 방식별 주문 생성 처리량 (16 스레드 동시 주문)
+ * - ATOMIC: 조건부 UPDATE 한 문장, PESSIMISTIC: SELECT ... FOR UPDATE 후 엔티티 변경
+ * - products: 주문이 몰리는 상품 수 (1이면 모든 주문이 같은 row를 두고 경쟁)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(16)
+@Fork(1)
+public class StockLockStrategyBenchmark {
+
+    @Param({"ATOMIC", "PESSIMISTIC"})
+    private String lockStrategy;
+
+    @Param({"1", "16"})
+    private int products;
+
+    private BenchmarkContext context;
+    private OrderService orderService;
+    private OrderCreateRequest[] requests;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(Map.of("order.stock.lock-strategy", lockStrategy));
+        orderService = context.getBean(OrderService.class);
+
+        OrderBenchmarkFixtures.createProducts(context.getBean(JdbcTemplate.class), products);
+        requests = new OrderCreateRequest[products];
+        for (int i = 0; i < products; i++) {
+            requests[i] = OrderBenchmarkFixtures.orderRequest(i + 1, 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Buyer {
+
+        private PrincipalDetails user;
+
+        @Setup
+        public void setUp(StockLockStrategyBenchmark benchmark) {
+            user = OrderBenchmarkFixtures.createUser(benchmark.context.getBean(UserRepository.class));
+        }
+    }
+
+    @Benchmark
+    public OrderResponse createOrder(Buyer buyer) {
+        OrderCreateRequest request = requests[ThreadLocalRandom.current().nextInt(products)];
+        return orderService.createOrder(request, buyer.user);
+    }
+}
@@ -0,0 +1,107 @@
+package com.codedrill.shoppingmall.product.repository;
+
+import com.codedrill.shoppingmall.BenchmarkContext;
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
+import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
+import com.codedrill.shoppingmall.product.dto.ProductSearchCondition;
+import com.codedrill.shoppingmall.product.dto.ProductSummary;
+import com.codedrill.shoppingmall.product.entity.Product;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록 조회: 엔티티 조회 후 변환 vs ProductSummary 바로 조회(JPQL constructor expression)
+ * - entity: 예전 방식 (select p from Product p → ProductSummary 변환, description TEXT도 함께 읽고 영속성 컨텍스트에 올림)
+ * - projection: 현재 ProductRepository.search
+ * - 할당량은 gc profiler로 확인 (./gradlew jmh -PjmhIncludes=ProductListProjectionBenchmark -PjmhProfilers=gc, gc.alloc.rate.norm 값)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductListProjectionBenchmark {
+
+    private static final int PRODUCT_COUNT = 10_000;
+    private static final int DESCRIPTION_LENGTH = 2_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private BenchmarkContext context;
+    private ProductRepository productRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private ProductSearchCondition condition;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        productRepository = context.getBean(ProductRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO products (status, name, price, stock, description, user_id, version, created_at, updated_at)
+                SELECT 'APPROVED', 'product-' || i, 1000 + i, 100, repeat('d', ?), 1, 0,
+                       now() - make_interval(secs => i), now()
+                FROM generate_series(1, ?) AS i
+                """, DESCRIPTION_LENGTH, PRODUCT_COUNT);
+
+        condition = ProductSearchCondition.builder()
+                .approvedOnly(true)
+                .sort(EnumProductSort.LATEST)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductSummary> entity() {
+        return transactionTemplate.execute(status -> entityManager.createQuery(
+                        "select p from Product p where p.status = :status and p.deletedAt is null"
+                                + " order by p.createdAt desc, p.id desc", Product.class)
+                .setParameter("status", EnumProductStatus.APPROVED)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(product -> ProductSummary.builder()
+                        .id(product.getId())
+                        .name(product.getName())
+                        .price(product.getPrice())
+                        .stock(product.getStock())
+                        .status(product.getStatus().name())
+                        .createdAt(product.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<ProductSummary> projection() {
+        return transactionTemplate.execute(status -> productRepository.search(condition, PageRequest.of(0, pageSize)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.codedrill.shoppingmall.product.repository;
+
+import com.codedrill.shoppingmall.BenchmarkContext;
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
+import com.codedrill.shoppingmall.product.dto.ProductSearchCondition;
+import com.codedrill.shoppingmall.product.dto.ProductSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이름 검색(lower(name) LIKE '%keyword%') 응답 시간 분포, 상품 1,000,000개 기준
+ * - SampleTime 모드라 결과에 p50/p90/p99가 함께 나옴
+ * - trigramIndex=false는 idx_products_name_trgm을 지운 상태(전체 스캔)와 비교하기 위한 값
+ * - keyword는 일치하는 상품이 적은 경우와 많은 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ProductNameSearchBenchmark {
+
+    private static final int PRODUCT_COUNT = 1_000_000;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"true", "false"})
+    private boolean trigramIndex;
+
+    @Param({"c0ffee", "a1"})
+    private String keyword;
+
+    private BenchmarkContext context;
+    private ProductRepository productRepository;
+    private TransactionTemplate transactionTemplate;
+    private ProductSearchCondition condition;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        productRepository = context.getBean(ProductRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO products (status, name, price, stock, user_id, version, created_at, updated_at)
+                SELECT 'APPROVED', 'product-' || md5(i::text), 1000 + i % 100000, 100, 1, 0,
+                       now() - make_interval(secs => i), now()
+                FROM generate_series(1, ?) AS i
+                """, PRODUCT_COUNT);
+        if (!trigramIndex) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_products_name_trgm");
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE products");
+
+        condition = ProductSearchCondition.builder()
+                .name(keyword)
+                .approvedOnly(true)
+                .sort(EnumProductSort.LATEST)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductSummary> search() {
+        return transactionTemplate.execute(status -> productRepository.search(condition, FIRST_PAGE));
+    }
+
+    @Benchmark
+    public Long count() {
+        return transactionTemplate.execute(status -> productRepository.count(condition));
+    }
+}
@@ -0,0 +1,303 @@
+package com.codedrill.shoppingmall.common.config;
+
+import com.codedrill.shoppingmall.common.consts.RestUriConst;
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import com.codedrill.shoppingmall.common.exception.IdempotencyKeyInUseException;
+import com.codedrill.shoppingmall.common.exception.IdempotencyKeyMismatchException;
+import com.codedrill.shoppingmall.common.util.IdempotencyStore;
+import com.codedrill.shoppingmall.common.util.IdempotencyStore.StoredEntry;
+import com.codedrill.shoppingmall.common.util.IdempotencyStore.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher.MatchResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 주문 생성/결제 요청의 Idempotency-Key 처리
+ * - 같은 사용자가 같은 key로 같은 API를 다시 호출하면 다시 실행하지 않고 처음 응답을 그대로(byte 단위로 같게) 돌려줌
+ * - 처음 요청이 처리 중이면 동시에 들어온 요청은 기다리지 않고 바로 409로 거절 (servlet thread를 잡아두지 않음)
+ * - 처리 중에는 lockTtl의 1/3마다 key 만료 시간을 연장해서, 오래 걸리는 요청의 key가 처리 도중에 풀리지 않게 함
+ * - 성공(2xx) 응답만 저장하고, 실패하면 key를 풀어서 같은 key로 다시 시도할 수 있게 함
+ * - 요청 본문 hash를 같이 저장해서, 같은 key로 다른 본문을 보내면 처음 응답을 돌려주지 않고 422로 거절
+ * - key는 요청 URI 그대로가 아니라 API 이름과 path variable로 만들어서, 같은 API를 다른 표기의 URI로 호출해도 같은 key로 처리
+ * - Redis 장애 시에는 Idempotency-Key 없이 요청을 그대로 처리
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final List<IdempotentEndpoint> IDEMPOTENT_ENDPOINTS = List.of(
+            new IdempotentEndpoint("order.create",
+                    new AntPathRequestMatcher(RestUriConst.REST_URI_ORDER, HttpMethod.POST.name())),
+            new IdempotentEndpoint("order.pay",
+                    new AntPathRequestMatcher(RestUriConst.REST_URI_ORDER + "/{orderId}/pay", HttpMethod.PATCH.name()))
+    );
+
+    private final IdempotencyStore idempotencyStore;
+    private final HandlerExceptionResolver resolver;
+    private final TaskScheduler taskScheduler;
+    private final Duration lockTtl;
+    private final Duration resultTtl;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver,
+                             TaskScheduler taskScheduler,
+                             @Value("${order.idempotency.lock-ttl:PT60S}") Duration lockTtl,
+                             @Value("${order.idempotency.result-ttl:PT24H}") Duration resultTtl) {
+        this.idempotencyStore = idempotencyStore;
+        this.resolver = resolver;
+        this.taskScheduler = taskScheduler;
+        this.lockTtl = lockTtl;
+        this.resultTtl = resultTtl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER_IDEMPOTENCY_KEY) == null || requestKey(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Long userId = currentUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(HEADER_IDEMPOTENCY_KEY);
+        if (!StringUtils.hasText(idempotencyKey) || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            resolver.resolveException(request, response, null, new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY));
+            return;
+        }
+
+        // 본문은 hash 계산에 먼저 읽으므로 뒤의 filter/controller에는 읽어 둔 본문을 다시 제공
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = sha256(cachedRequest.body);
+
+        // 같은 key라도 API가 다르면 다른 요청으로 처리
+        String key = requestKey(request) + ":" + idempotencyKey;
+        String owner = UUID.randomUUID().toString();
+
+        try {
+            if (!idempotencyStore.tryAcquire(userId, key, owner, requestHash, lockTtl)) {
+                Optional<StoredEntry> stored = idempotencyStore.find(userId, key);
+                // 본문 hash가 없는 key는 hash 저장 이전에 만들어진 것이므로 비교하지 않음
+                if (stored.isPresent() && stored.get().requestHash() != null
+                        && !requestHash.equals(stored.get().requestHash())) {
+                    resolver.resolveException(request, response, null, new IdempotencyKeyMismatchException());
+                    return;
+                }
+                if (stored.isPresent() && stored.get().response() != null) {
+                    replay(stored.get().response(), response);
+                    return;
+                }
+                // 처음 요청이 아직 처리 중 (또는 방금 실패해서 key가 풀림): 클라이언트가 잠시 후 다시 시도
+                resolver.resolveException(request, response, null, new IdempotencyKeyInUseException());
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 저장소를 사용할 수 없어 그대로 처리합니다. uri: {}", request.getRequestURI(), e);
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        Duration heartbeatInterval = lockTtl.dividedBy(3);
+        ScheduledFuture<?> heartbeat = taskScheduler.scheduleAtFixedRate(() -> extend(userId, key, owner),
+                Instant.now().plus(heartbeatInterval), heartbeatInterval);
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean succeeded = false;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+            succeeded = responseWrapper.getStatus() >= 200 && responseWrapper.getStatus() < 300;
+        } finally {
+            heartbeat.cancel(false);
+            if (succeeded) {
+                complete(userId, key, owner, responseWrapper);
+            } else {
+                release(userId, key, owner);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void complete(Long userId, String key, String owner, ContentCachingResponseWrapper responseWrapper) {
+        StoredResponse stored = new StoredResponse(responseWrapper.getStatus(), responseWrapper.getContentType(),
+                responseWrapper.getContentAsByteArray());
+        try {
+            if (!idempotencyStore.complete(userId, key, owner, stored, resultTtl)) {
+                // 연장이 실패해서 key가 만료된 뒤 다른 요청이 잡은 경우, 그 요청의 key는 건드리지 않음
+                log.warn("Idempotency-Key를 다른 요청이 잡고 있어 처리 결과를 저장하지 않습니다. key: {}", key);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 처리 결과 저장 실패. key: {}", key, e);
+            release(userId, key, owner);
+        }
+    }
+
+    private void extend(Long userId, String key, String owner) {
+        try {
+            idempotencyStore.extend(userId, key, owner, lockTtl);
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 연장
+            log.warn("Idempotency-Key 만료 시간 연장 실패. key: {}", key, e);
+        }
+    }
+
+    private void release(Long userId, String key, String owner) {
+        try {
+            idempotencyStore.release(userId, key, owner);
+        } catch (DataAccessException e) {
+            // 풀지 못한 key는 lockTtl이 지나면 자동으로 풀림
+            log.warn("Idempotency-Key 해제 실패. key: {}", key, e);
+        }
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(HEADER_IDEMPOTENT_REPLAYED, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 요청이 어느 API인지와 path variable로 key 앞부분을 만듦 (대상 API가 아니면 null)
+     * - servlet path 기준으로 비교하므로 context path, 인코딩, ;param 차이는 key에 들어가지 않음
+     */
+    private static String requestKey(HttpServletRequest request) {
+        for (IdempotentEndpoint endpoint : IDEMPOTENT_ENDPOINTS) {
+            MatchResult result = endpoint.matcher().matcher(request);
+            if (result.isMatch()) {
+                StringBuilder key = new StringBuilder(endpoint.name());
+                for (Map.Entry<String, String> variable : new TreeMap<>(result.getVariables()).entrySet()) {
+                    key.append(':').append(variable.getKey()).append('=').append(variable.getValue());
+                }
+                return key.toString();
+            }
+        }
+        return null;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+
+    private record IdempotentEndpoint(String name, AntPathRequestMatcher matcher) {
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // 본문은 이미 모두 읽어 두었으므로 바로 읽을 수 있다고 알림
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return inputStream.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() == null
+                    ? StandardCharsets.UTF_8 : Charset.forName(getCharacterEncoding());
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.codedrill.shoppingmall.common.config;
 
 import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
 import com.codedrill.shoppingmall.common.exception.JwtTokenInvalidException;
+import com.codedrill.shoppingmall.common.util.AccessTokenDenylist;
 import com.codedrill.shoppingmall.common.util.JwtUtil;
+import com.codedrill.shoppingmall.common.util.ParsedToken;
+import com.codedrill.shoppingmall.common.util.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,17 +13,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Collections;
 
 @Slf4j
 @Component
@@ -30,6 +28,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String ATTRIBUTE_TOKEN_ERROR = "token_error";
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -37,27 +37,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractTokenFromRequest(request);
 
-        if (token != null && jwtUtil.validateToken(token)) {
+        if (token != null) {
             try {
-                Long userId = jwtUtil.extractUserId(token);
-                String name = jwtUtil.extractUserName(token);
-                String email = jwtUtil.extractEmail(token);
-                String role = jwtUtil.extractRole(token);
+                // 서명 검증과 claim 추출을 한 번에 처리하고, 결과는 Authentication details로 넘겨서 재사용
+                // 이미 검증된 토큰이면 캐시에서 꺼내서 HMAC 검증을 생략
+                ParsedToken parsedToken = verifiedTokenCache.getOrVerify(token, jwtUtil::parse);
+                if (accessTokenDenylist.isRevoked(parsedToken.getTokenId())) {
+                    throw JwtTokenInvalidException.INSTANCE;
+                }
+                PrincipalDetails principalDetails = parsedToken.getPrincipalDetails();
 
-                Collection<? extends GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
-
-
-                PrincipalDetails principalDetails = new PrincipalDetails(
-                        userId,
-                        email,
-                        name,
-                        null,
-                        authorities
-                );
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(principalDetails, null, authorities);
+                        new UsernamePasswordAuthenticationToken(principalDetails, null, principalDetails.getAuthorities());
 
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authentication.setDetails(parsedToken);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (JwtTokenInvalidException e) {
                 log.error("JWT 토큰 처리 중 오류 발생", e);
@@ -68,7 +61,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String extractTokenFromRequest(HttpServletRequest request) {
+    public static String extractTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
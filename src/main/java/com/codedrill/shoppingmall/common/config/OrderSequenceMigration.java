@@ -0,0 +1,67 @@
+package com.codedrill.shoppingmall.common.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+
+/**
+ * 주문/주문 항목 sequence를 기존 최대 id 뒤로 이동
+ * - IDENTITY로 만들어진 기존 주문 id와 새 sequence 값이 겹치면 주문 생성이 PK 중복으로 실패하므로 요청을 받기 전에 실행
+ * - Hibernate(ddl-auto)가 sequence를 만든 뒤 실행되도록 entityManagerFactory 초기화 이후, 웹 서버 시작 전에 실행
+ * - 실패하면 애플리케이션 시작을 중단
+ * - PostgreSQL에서만 실행 (H2 등 다른 DB는 건너뜀)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class OrderSequenceMigration {
+
+    // Order, OrderItem @SequenceGenerator의 allocationSize와 같은 값
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void migrate() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            String databaseName = connection.getMetaData().getDatabaseProductName();
+            if (!"PostgreSQL".equalsIgnoreCase(databaseName)) {
+                return null;
+            }
+
+            // 여러 노드가 동시에 시작해도 SchemaMigrationRunner와 같은 advisory lock으로 한 노드씩 실행
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_lock(" + SchemaMigrationRunner.MIGRATION_LOCK_KEY + ")");
+                try {
+                    statement.execute(sequenceAfterMaxId("orders_seq", "orders"));
+                    statement.execute(sequenceAfterMaxId("order_items_seq", "order_items"));
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(" + SchemaMigrationRunner.MIGRATION_LOCK_KEY + ")");
+                }
+            }
+            log.info("주문 sequence 확인 완료");
+            return null;
+        });
+    }
+
+    private static String sequenceAfterMaxId(String sequence, String table) {
+        return """
+                DO $$
+                DECLARE
+                    max_id BIGINT;
+                BEGIN
+                    SELECT max(id) INTO max_id FROM %2$s;
+                    IF max_id IS NOT NULL AND max_id >= (SELECT last_value FROM %1$s) THEN
+                        PERFORM setval('%1$s', max_id + %3$d);
+                    END IF;
+                END $$
+                """.formatted(sequence, table, SEQUENCE_ALLOCATION_SIZE);
+    }
+}
@@ -1,5 +1,8 @@
 package com.codedrill.shoppingmall.common.config;
 
+import com.codedrill.shoppingmall.common.consts.CacheConst;
+import com.codedrill.shoppingmall.common.util.TwoLevelCacheManager;
+import com.codedrill.shoppingmall.product.dto.ProductDetailResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,12 +16,17 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
+@EnableCaching
 public class RedisConfig {
 
     @Value("${spring.data.redis.port}")
@@ -41,5 +49,44 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
-}
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    /**
+     * 상품 상세 등 읽기 비중이 높은 데이터용 2단계 캐시 (L1: Caffeine, L2: Redis)
+     */
+    @Bean
+    public CacheManager cacheManager(
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${cache.local-ttl:PT30S}") Duration localTtl,
+            @Value("${cache.local-maximum-size:10000}") long localMaximumSize,
+            @Value("${cache.redis-ttl:PT10M}") Duration redisTtl
+    ) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        RedisCacheConfiguration defaultConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(redisTtl)
+                .disableCachingNullValues()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory())
+                .cacheDefaults(defaultConfiguration)
+                .withInitialCacheConfigurations(Map.of(
+                        CacheConst.PRODUCT_DETAIL, defaultConfiguration.serializeValuesWith(
+                                RedisSerializationContext.SerializationPair.fromSerializer(
+                                        new Jackson2JsonRedisSerializer<>(objectMapper, ProductDetailResponse.class)))
+                ))
+                .build();
+        redisCacheManager.initializeCaches();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, redisTemplate(),
+                CacheConst.CACHE_EVICT_CHANNEL, localTtl, localMaximumSize);
+        redisMessageListenerContainer.addMessageListener(cacheManager, new ChannelTopic(CacheConst.CACHE_EVICT_CHANNEL));
+        return cacheManager;
+    }
+}
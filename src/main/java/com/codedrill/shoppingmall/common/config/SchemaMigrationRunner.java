@@ -0,0 +1,138 @@
+package com.codedrill.shoppingmall.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * JPA(ddl-auto)로 표현할 수 없는 DB 전용 스키마 변경
+ * - Hibernate가 테이블을 만든 뒤 시작 시점에 실행되고, 모든 SQL은 여러 번 실행해도 안전하게 작성
+ * - PostgreSQL에서만 실행 (H2 등 다른 DB는 건너뜀)
+ * - 여러 노드가 동시에 시작해도 advisory lock으로 한 노드씩 실행
+ * - 요청 처리 전에 끝나야 하는 주문 sequence 이동은 OrderSequenceMigration에서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrationRunner implements ApplicationRunner {
+
+    static final long MIGRATION_LOCK_KEY = 7_310_001L;
+
+    private static final List<String> POSTGRESQL_MIGRATIONS = List.of(
+            // 상품명 부분 검색(lower(name) LIKE '%x%')용 trigram 인덱스에 필요
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            // 재고 음수 방지 (ddl-auto=update는 기존 테이블에 CHECK 제약 조건을 추가하지 않음)
+            """
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'ck_products_stock_non_negative') THEN
+                    ALTER TABLE products ADD CONSTRAINT ck_products_stock_non_negative CHECK (stock >= 0);
+                END IF;
+            END $$
+            """
+    );
+
+    private static final List<ConcurrentIndex> POSTGRESQL_INDEXES = List.of(
+            // 상품명 부분 검색(lower(name) LIKE '%x%')용 trigram 인덱스
+            new ConcurrentIndex("idx_products_name_trgm", "ON products USING gin (lower(name) gin_trgm_ops)"),
+            // 상품별 재고 반영 대기 주문 항목 조회용 (product_id = ? AND stock_applied = false, 대부분 반영 완료 상태라 대기 중인 항목만 색인)
+            new ConcurrentIndex("idx_order_items_stock_pending_product",
+                    "ON order_items (product_id, id) WHERE stock_applied = false"),
+            // 결제되지 않은 만료 주문 조회용 (CREATED 상태인 주문만 생성 시각 순으로 색인)
+            new ConcurrentIndex("idx_orders_created_expiry", "ON orders (created_at, id) WHERE status = 'CREATED'")
+    );
+
+    // 다른 인덱스로 대체되어 더 이상 쓰지 않는 인덱스 (대체 인덱스를 만든 뒤 삭제)
+    private static final List<String> POSTGRESQL_DROPPED_INDEXES = List.of(
+            // idx_order_items_stock_pending_product로 대체 (product_id 조건을 처리하지 못해 항상 전체를 읽었음)
+            "idx_order_items_stock_pending"
+    );
+
+    private static final String INDEX_VALID_SQL = """
+            SELECT i.indisvalid
+            FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = ? AND pg_table_is_visible(c.oid)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            String databaseName = connection.getMetaData().getDatabaseProductName();
+            if (!"PostgreSQL".equalsIgnoreCase(databaseName)) {
+                log.info("{}에서는 스키마 마이그레이션을 건너뜁니다.", databaseName);
+                return null;
+            }
+
+            // CREATE INDEX CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 autocommit 상태의 커넥션에서 한 문장씩 실행
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_lock(" + MIGRATION_LOCK_KEY + ")");
+                try {
+                    for (String sql : POSTGRESQL_MIGRATIONS) {
+                        migrate(statement, sql);
+                    }
+                    for (ConcurrentIndex index : POSTGRESQL_INDEXES) {
+                        createIndex(connection, statement, index);
+                    }
+                    for (String index : POSTGRESQL_DROPPED_INDEXES) {
+                        migrate(statement, "DROP INDEX CONCURRENTLY IF EXISTS " + index);
+                    }
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(" + MIGRATION_LOCK_KEY + ")");
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * CREATE INDEX CONCURRENTLY가 중간에 실패하면 INVALID 인덱스가 남고, IF NOT EXISTS는 이를 있는 것으로 보고 건너뜀
+     * - INVALID 인덱스는 조회에 쓰이지 않고 쓰기 비용만 늘리므로 삭제 후 다시 생성
+     */
+    private void createIndex(Connection connection, Statement statement, ConcurrentIndex index) {
+        try {
+            if (Boolean.FALSE.equals(isValidIndex(connection, index.name()))) {
+                log.warn("INVALID 상태의 인덱스를 다시 생성합니다. index: {}", index.name());
+                statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.name());
+            }
+            statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index.name() + " " + index.definition());
+        } catch (SQLException e) {
+            log.warn("인덱스 생성 실패. index: {}", index.name(), e);
+        }
+    }
+
+    // 인덱스가 없으면 null
+    private static Boolean isValidIndex(Connection connection, String indexName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INDEX_VALID_SQL)) {
+            statement.setString(1, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getBoolean(1) : null;
+            }
+        }
+    }
+
+    // 권한 부족 등으로 실패해도 기능은 인덱스 없이 동작하므로 애플리케이션 시작은 계속 진행
+    private void migrate(Statement statement, String sql) {
+        try {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            log.warn("스키마 마이그레이션 실패. sql: {}", sql, e);
+        }
+    }
+
+    private record ConcurrentIndex(String name, String definition) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.codedrill.shoppingmall.common.config;
 
+import com.codedrill.shoppingmall.common.consts.RestUriConst;
 import com.codedrill.shoppingmall.common.exception.CustomAccessDeniedHandler;
 import com.codedrill.shoppingmall.common.exception.CustomAuthenticationEntryPoint;
+import com.codedrill.shoppingmall.common.util.BCryptStrengthCalibrator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,21 +17,29 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
     @Bean("password")
-    public PasswordEncoder passwordEncoder() {
-        // BCryptPasswordEncoder로 비밀번호 암호화
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.target-latency:PT0.25S}") Duration targetLatency,
+            @Value("${security.password.min-strength:10}") int minStrength,
+            @Value("${security.password.max-strength:14}") int maxStrength
+    ) {
+        // BCryptPasswordEncoder로 비밀번호 암호화, cost는 시작 시점에 목표 지연 시간에 맞춰 결정
+        return new BCryptPasswordEncoder(BCryptStrengthCalibrator.calibrate(targetLatency, minStrength, maxStrength));
     }
 
     @Bean
@@ -39,10 +50,16 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // 메트릭에는 내부 사용량/지연 정보가 있으므로 ADMIN만 조회 (health는 그대로 공개)
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.DELETE, RestUriConst.REST_URI_PRODUCT + "/**").hasRole("ADMIN")
+                        .requestMatchers(RestUriConst.REST_URI_ORDER + "/**").authenticated()
                         //TODO: 적절하게 리소스별 권한 설정
                         .anyRequest().permitAll()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 인증/인가를 통과한 요청만 Idempotency-Key 처리
+                .addFilterAfter(idempotencyFilter, AuthorizationFilter.class)
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(customAuthenticationEntryPoint)
                         .accessDeniedHandler(customAccessDeniedHandler)
@@ -0,0 +1,6 @@
+package com.codedrill.shoppingmall.common.consts;
+
+public class CacheConst {
+    public static final String PRODUCT_DETAIL = "product:detail";
+    public static final String CACHE_EVICT_CHANNEL = "cache:evict";
+}
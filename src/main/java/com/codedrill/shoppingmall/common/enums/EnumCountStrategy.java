@@ -0,0 +1,7 @@
+package com.codedrill.shoppingmall.common.enums;
+
+public enum EnumCountStrategy {
+    EXACT,
+    ESTIMATED,
+    CACHED
+}
@@ -1,9 +1,38 @@
 package com.codedrill.shoppingmall.common.enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum EnumOrderStatus {
     CREATED,
     PAID,
     CANCELLED,
-    COMPLETED
-}
+    COMPLETED;
+
+    // 허용된 상태 전이 (CANCELLED, COMPLETED는 최종 상태)
+    private static final Map<EnumOrderStatus, Set<EnumOrderStatus>> TRANSITIONS = new EnumMap<>(Map.of(
+            CREATED, EnumSet.of(PAID, CANCELLED),
+            PAID, EnumSet.of(COMPLETED),
+            CANCELLED, EnumSet.noneOf(EnumOrderStatus.class),
+            COMPLETED, EnumSet.noneOf(EnumOrderStatus.class)
+    ));
 
+    public boolean canTransitionTo(EnumOrderStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+
+    /**
+     * next로 바뀔 수 있는 현재 상태 목록
+     */
+    public static Set<EnumOrderStatus> sourcesOf(EnumOrderStatus next) {
+        Set<EnumOrderStatus> sources = EnumSet.noneOf(EnumOrderStatus.class);
+        TRANSITIONS.forEach((source, targets) -> {
+            if (targets.contains(next)) {
+                sources.add(source);
+            }
+        });
+        return sources;
+    }
+}
@@ -0,0 +1,6 @@
+package com.codedrill.shoppingmall.common.enums;
+
+public enum EnumPaginationMode {
+    OFFSET,
+    CURSOR
+}
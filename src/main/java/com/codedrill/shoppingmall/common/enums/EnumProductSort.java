@@ -0,0 +1,6 @@
+package com.codedrill.shoppingmall.common.enums;
+
+public enum EnumProductSort {
+    LATEST,
+    PRICE
+}
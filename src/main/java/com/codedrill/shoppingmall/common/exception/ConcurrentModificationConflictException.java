@@ -0,0 +1,9 @@
+package com.codedrill.shoppingmall.common.exception;
+
+// 낙관적 락 충돌을 재시도로 해결하지 못한 경우 (409로 응답)
+public class ConcurrentModificationConflictException extends BusinessException {
+
+    public ConcurrentModificationConflictException() {
+        super(ErrorCode.CONCURRENT_MODIFICATION);
+    }
+}
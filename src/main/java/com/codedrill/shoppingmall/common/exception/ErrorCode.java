@@ -12,11 +12,34 @@ public enum ErrorCode {
     INVALID_REQUEST_BODY("INVALID_REQUEST_BODY", "요청 본문이 올바르지 않습니다."),
     METHOD_NOT_ALLOWED("METHOD_NOT_ALLOWED", "지원하지 않는 HTTP 메서드입니다."),
     NOT_FOUND("NOT_FOUND", "요청한 리소스를 찾을 수 없습니다."),
+    SERVER_BUSY("SERVER_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_CURSOR("INVALID_CURSOR", "유효하지 않은 커서입니다."),
+    CONCURRENT_MODIFICATION("CONCURRENT_MODIFICATION", "다른 요청과 충돌했습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_IDEMPOTENCY_KEY("INVALID_IDEMPOTENCY_KEY", "유효하지 않은 Idempotency-Key입니다."),
+    IDEMPOTENCY_KEY_IN_USE("IDEMPOTENCY_KEY_IN_USE", "같은 Idempotency-Key로 처리 중인 요청이 있습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_MISMATCH("IDEMPOTENCY_KEY_MISMATCH", "같은 Idempotency-Key로 다른 내용의 요청을 보낼 수 없습니다."),
     
     // 인증/인가
     UNAUTHORIZED("UNAUTHORIZED", "인증이 필요합니다."),
     FORBIDDEN("FORBIDDEN", "권한이 없습니다."),
-    INVALID_CREDENTIALS("INVALID_CREDENTIALS", "이메일 또는 비밀번호가 올바르지 않습니다.");
+    INVALID_CREDENTIALS("INVALID_CREDENTIALS", "이메일 또는 비밀번호가 올바르지 않습니다."),
+    INVALID_REFRESH_TOKEN("INVALID_REFRESH_TOKEN", "유효하지 않은 Refresh Token입니다."),
+    TOO_MANY_LOGIN_ATTEMPTS("TOO_MANY_LOGIN_ATTEMPTS", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // 회원
+    DUPLICATE_EMAIL("DUPLICATE_EMAIL", "이미 사용 중인 이메일입니다."),
+
+    // 상품
+    PRODUCT_NOT_FOUND("PRODUCT_NOT_FOUND", "상품을 찾을 수 없습니다."),
+    PRODUCT_NOT_APPROVED("PRODUCT_NOT_APPROVED", "승인되지 않은 상품입니다."),
+    PRODUCT_PENDING_EXISTS("PRODUCT_PENDING_EXISTS", "승인 대기 중인 상품이 있어 새로운 상품을 등록할 수 없습니다."),
+    INVALID_PRODUCT_STATUS("INVALID_PRODUCT_STATUS", "승인할 수 없는 상품 상태입니다."),
+    INSUFFICIENT_STOCK("INSUFFICIENT_STOCK", "재고가 부족합니다."),
+
+    // 주문
+    ORDER_NOT_FOUND("ORDER_NOT_FOUND", "주문을 찾을 수 없습니다."),
+    ORDER_ACCESS_DENIED("ORDER_ACCESS_DENIED", "본인의 주문만 접근할 수 있습니다."),
+    INVALID_ORDER_STATUS("INVALID_ORDER_STATUS", "주문 상태를 변경할 수 없습니다.");
 
     private final String code;
     private final String message;
@@ -4,6 +4,7 @@ import com.codedrill.shoppingmall.common.response.Response;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -36,6 +37,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<Response<Response.ErrorData>> handleIdempotencyKeyMismatchException(
+            IdempotencyKeyMismatchException e) {
+        log.warn("IdempotencyKeyMismatchException: {}", e.getMessage());
+        Response<Response.ErrorData> response = Response.error(
+            e.getErrorCode().getCode(),
+            e.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInUseException.class)
+    public ResponseEntity<Response<Response.ErrorData>> handleIdempotencyKeyInUseException(
+            IdempotencyKeyInUseException e) {
+        log.warn("IdempotencyKeyInUseException: {}", e.getMessage());
+        Response<Response.ErrorData> response = Response.error(
+            e.getErrorCode().getCode(),
+            e.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Response<Response.ErrorData>> handleValidationException(
             MethodArgumentNotValidException e) {
@@ -118,6 +141,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Response<Response.ErrorData>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException e) {
+        log.warn("OptimisticLockingFailureException: {}", e.getMessage());
+        Response<Response.ErrorData> response = Response.error(
+            ErrorCode.CONCURRENT_MODIFICATION.getCode(),
+            ErrorCode.CONCURRENT_MODIFICATION.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(ConcurrentModificationConflictException.class)
+    public ResponseEntity<Response<Response.ErrorData>> handleConcurrentModificationConflictException(
+            ConcurrentModificationConflictException e) {
+        log.warn("ConcurrentModificationConflictException: {}", e.getMessage());
+        Response<Response.ErrorData> response = Response.error(
+            e.getErrorCode().getCode(),
+            e.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<Response<Response.ErrorData>> handleConstraintViolationException(
             ConstraintViolationException e) {
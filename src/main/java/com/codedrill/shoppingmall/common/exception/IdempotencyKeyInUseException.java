@@ -0,0 +1,9 @@
+package com.codedrill.shoppingmall.common.exception;
+
+// 같은 Idempotency-Key로 처음 보낸 요청이 아직 처리 중인 경우 (409로 응답)
+public class IdempotencyKeyInUseException extends BusinessException {
+
+    public IdempotencyKeyInUseException() {
+        super(ErrorCode.IDEMPOTENCY_KEY_IN_USE);
+    }
+}
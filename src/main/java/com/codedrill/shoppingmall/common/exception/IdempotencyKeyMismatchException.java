@@ -0,0 +1,9 @@
+package com.codedrill.shoppingmall.common.exception;
+
+// 같은 Idempotency-Key를 다른 요청 본문으로 다시 사용한 경우 (422로 응답)
+public class IdempotencyKeyMismatchException extends BusinessException {
+
+    public IdempotencyKeyMismatchException() {
+        super(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+    }
+}
@@ -0,0 +1,176 @@
+package com.codedrill.shoppingmall.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 폐기된 AccessToken(jti) 목록
+ * - 모든 요청에서 확인하기 때문에 로컬 Bloom filter로 먼저 거르고, Bloom filter가 양성일 때만 Redis 확인
+ * - 다른 노드에서 폐기한 토큰은 Redis pub/sub으로 받아서 Bloom filter에 추가
+ * - Bloom filter는 지울 수 없으므로 주기적으로 Redis의 폐기 목록에서 새로 만들어서 교체
+ *   (재구성 중에 들어온 폐기는 따로 모아 두었다가 교체 직전에 새 filter에 다시 넣음)
+ * - Bloom filter 양성인데 Redis를 조회할 수 없으면 jwt.denylist.fail-open 설정에 따라 처리
+ *   (기본값 false: 폐기된 것으로 보고 401, true: 통과시키고 jwt.denylist.lookup-failures로만 기록)
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements MessageListener {
+
+    public static final String CHANNEL = "denylist:revoked";
+    private static final String KEY_PREFIX = "denylist:jti:";
+    private static final String LOG_KEY = "denylist:log";
+
+    // 개별 key(만료 = 토큰 exp), 재구성용 sorted set(score = 토큰 exp), 다른 노드 알림을 한 번에 처리
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], '1', 'PX', ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+            redis.call('PUBLISH', ARGV[4], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final boolean failOpen;
+
+    private volatile BloomFilter bloomFilter;
+
+    // 추가와 filter 교체가 엇갈려서 폐기가 빠지지 않도록 둘을 같은 lock으로 묶음 (조회는 lock 없이 처리)
+    private final Object swapLock = new Object();
+    // 재구성 중에 들어온 폐기 jti (swapLock으로 보호)
+    private final List<String> pendingAdds = new ArrayList<>();
+    private boolean rebuilding;
+
+    private final Counter lookupCounter;
+    private final Counter bloomPositiveCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter lookupFailureCounter;
+
+    public AccessTokenDenylist(RedisTemplate<String, Object> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${jwt.denylist.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${jwt.denylist.fpp:0.01}") double fpp,
+                               @Value("${jwt.denylist.fail-open:false}") boolean failOpen) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.failOpen = failOpen;
+        this.bloomFilter = BloomFilter.create(expectedInsertions, fpp);
+
+        this.lookupCounter = meterRegistry.counter("jwt.denylist.lookups");
+        this.bloomPositiveCounter = meterRegistry.counter("jwt.denylist.bloom.positives");
+        this.falsePositiveCounter = meterRegistry.counter("jwt.denylist.bloom.false-positives");
+        this.lookupFailureCounter = meterRegistry.counter("jwt.denylist.lookup-failures");
+        Gauge.builder("jwt.denylist.bloom.expected-fpp", this, denylist -> denylist.bloomFilter.expectedFpp())
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void revoke(String tokenId, long expiresAtMs) {
+        long ttlMs = expiresAtMs - System.currentTimeMillis();
+        if (tokenId == null || ttlMs <= 0) {
+            return;
+        }
+
+        redisTemplate.execute(REVOKE_SCRIPT, List.of(KEY_PREFIX + tokenId, LOG_KEY),
+                tokenId, String.valueOf(ttlMs), String.valueOf(expiresAtMs), CHANNEL);
+        add(tokenId);
+    }
+
+    /**
+     * Bloom filter가 음성이면 네트워크 I/O 없이 바로 false
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        lookupCounter.increment();
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        bloomPositiveCounter.increment();
+        boolean revoked;
+        try {
+            revoked = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (DataAccessException e) {
+            lookupFailureCounter.increment();
+            log.warn("AccessToken 폐기 여부 확인 실패. {}", failOpen ? "통과시킵니다." : "폐기된 토큰으로 처리합니다.", e);
+            return !failOpen;
+        }
+        if (!revoked) {
+            falsePositiveCounter.increment();
+        }
+        return revoked;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 만료된 jti를 정리하고 아직 유효한 jti만으로 Bloom filter를 다시 만듦
+     * - 시작 직후에도 실행되어 다른 노드가 폐기한 목록을 가져옴
+     */
+    @Scheduled(fixedDelayString = "${jwt.denylist.rebuild-interval:PT5M}")
+    public void rebuild() {
+        synchronized (swapLock) {
+            rebuilding = true;
+            pendingAdds.clear();
+        }
+        try {
+            BloomFilter next = BloomFilter.create(expectedInsertions, fpp);
+
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(LOG_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<Object> tokenIds = redisTemplate.opsForZSet().rangeByScore(LOG_KEY, now, Double.POSITIVE_INFINITY);
+            if (tokenIds != null) {
+                tokenIds.forEach(tokenId -> next.put((String) tokenId));
+            }
+
+            // 목록을 읽은 뒤에 들어온 폐기를 반영한 다음 교체
+            synchronized (swapLock) {
+                pendingAdds.forEach(next::put);
+                bloomFilter = next;
+            }
+        } catch (Exception e) {
+            log.warn("AccessToken 폐기 목록 재구성 실패. 기존 Bloom filter를 계속 사용합니다.", e);
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = false;
+                pendingAdds.clear();
+            }
+        }
+    }
+
+    private void add(String tokenId) {
+        synchronized (swapLock) {
+            bloomFilter.put(tokenId);
+            if (rebuilding) {
+                pendingAdds.add(tokenId);
+            }
+        }
+    }
+}
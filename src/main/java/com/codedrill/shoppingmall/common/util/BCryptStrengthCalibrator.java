@@ -0,0 +1,38 @@
+package com.codedrill.shoppingmall.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+/**
+ * 서버 성능에 맞춰 BCrypt cost(strength)를 정하는 유틸
+ * - minStrength부터 cost를 하나씩 올려가며 실제 해시 시간을 측정하고, 목표 시간 안에 들어오는 가장 큰 cost 선택
+ * - cost별 측정 시간은 로그로 남겨서 튜닝 시 참고
+ */
+@Slf4j
+public class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibrate1234!";
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        // JIT 워밍업
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(4));
+
+        int strength = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long startedAt = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(candidate));
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            log.info("BCrypt cost {}: {}ms", candidate, elapsed.toMillis());
+
+            if (elapsed.compareTo(targetLatency) > 0) {
+                break;
+            }
+            strength = candidate;
+        }
+
+        log.info("BCrypt cost {} 선택 (목표 {}ms)", strength, targetLatency.toMillis());
+        return strength;
+    }
+}
@@ -0,0 +1,93 @@
+package com.codedrill.shoppingmall.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter
+ * - 여러 스레드에서 동시에 put/mightContain 해도 안전 (bit 배열은 CAS로 갱신)
+ * - false는 "확실히 없음", true는 "있을 수도 있음"
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+    private final AtomicLong bitCount = new AtomicLong();
+
+    private BloomFilter(long numBits, int numHashes) {
+        this.bits = new AtomicLongArray((int) ((numBits + 63) / 64));
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * expectedInsertions개를 넣었을 때 오탐률이 fpp가 되도록 bit 수와 hash 개수 계산
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        long numBits = Math.max(64, (long) (-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(numBits, numHashes);
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < numHashes; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, numBits));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < numHashes; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 bit 비율로 계산한 오탐률
+     */
+    public double expectedFpp() {
+        return Math.pow((double) bitCount.get() / numBits, numHashes);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        bitCount.incrementAndGet();
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // 두 번째 hash는 첫 번째 hash를 섞어서 만듦 (double hashing)
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash | 1;
+    }
+}
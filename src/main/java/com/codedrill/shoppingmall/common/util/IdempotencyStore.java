@@ -0,0 +1,134 @@
+package com.codedrill.shoppingmall.common.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key별 처리 결과 저장소 (Redis hash)
+ * - 처음 요청한 쪽이 owner로 key를 잡고(처리 중), 처리가 끝나면 같은 key에 응답(status, content type, body)을 저장
+ * - body는 Base64로 저장해서 다시 보낼 때 처음 응답과 byte 단위로 같게 유지
+ * - 처리 중에는 owner가 만료 시간을 계속 연장하고, owner가 아니면 결과 저장/연장/해제를 하지 않으므로, lock이 만료된 뒤 늦게 끝난 요청이 다른 요청의 key를 건드리지 않음
+ * - key를 잡을 때 요청 본문 hash를 같이 저장해서, 같은 key로 다른 본문을 보낸 요청을 구분할 수 있게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:{";
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'owner', ARGV[1], 'requestHash', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', ARGV[2], 'contentType', ARGV[3], 'body', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    // 결과가 저장되지 않은(처리 중인) key만 연장
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] or redis.call('HEXISTS', KEYS[1], 'status') == 1 then
+                return 0
+            end
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_SCRIPT = new DefaultRedisScript<>("""
+            return redis.call('HMGET', KEYS[1], 'requestHash', 'status', 'contentType', 'body')
+            """, List.class);
+
+    // 결과가 저장되지 않은(처리 중인) key만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] or redis.call('HEXISTS', KEYS[1], 'status') == 1 then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 아무도 처리하지 않은 key일 때만 owner로 등록 (lockTtl이 지나면 자동으로 풀림)
+     */
+    public boolean tryAcquire(Long userId, String key, String owner, String requestHash, Duration lockTtl) {
+        Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key(userId, key)),
+                owner, requestHash, String.valueOf(lockTtl.toMillis()));
+        return result != null && result == 1;
+    }
+
+    /**
+     * key를 잡은 요청의 본문 hash와 처리가 끝난 응답 조회
+     * - key가 없으면 empty, 아직 처리 중이면 response가 null
+     */
+    public Optional<StoredEntry> find(Long userId, String key) {
+        List<?> values = redisTemplate.execute(FIND_SCRIPT, List.of(key(userId, key)));
+        if (values == null || values.size() < 4 || (values.get(0) == null && values.get(1) == null)) {
+            return Optional.empty();
+        }
+        StoredResponse response = values.get(1) == null ? null : new StoredResponse(
+                Integer.parseInt((String) values.get(1)),
+                ((String) values.get(2)).isEmpty() ? null : (String) values.get(2),
+                Base64.getDecoder().decode((String) values.get(3))
+        );
+        return Optional.of(new StoredEntry((String) values.get(0), response));
+    }
+
+    /**
+     * 처리 결과 저장
+     * - key가 만료되어 다른 요청이 잡았으면 저장하지 않고 false
+     */
+    public boolean complete(Long userId, String key, String owner, StoredResponse response, Duration resultTtl) {
+        Long result = redisTemplate.execute(COMPLETE_SCRIPT, List.of(key(userId, key)),
+                owner,
+                String.valueOf(response.status()),
+                response.contentType() == null ? "" : response.contentType(),
+                Base64.getEncoder().encodeToString(response.body()),
+                String.valueOf(resultTtl.toMillis()));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 처리 중인 key의 만료 시간을 lockTtl로 다시 설정 (owner일 때만)
+     */
+    public boolean extend(Long userId, String key, String owner, Duration lockTtl) {
+        Long result = redisTemplate.execute(EXTEND_SCRIPT, List.of(key(userId, key)),
+                owner, String.valueOf(lockTtl.toMillis()));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 결과를 저장하지 않고 key를 풀어서 같은 key로 다시 요청하면 새로 처리되도록 함
+     */
+    public void release(Long userId, String key, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key(userId, key)), owner);
+    }
+
+    // 같은 사용자의 key는 {userId} hash tag로 묶어서 Redis Cluster에서도 같은 slot에 위치
+    private String key(Long userId, String key) {
+        return KEY_PREFIX + userId + "}:" + key;
+    }
+
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    public record StoredEntry(String requestHash, StoredResponse response) {
+    }
+}
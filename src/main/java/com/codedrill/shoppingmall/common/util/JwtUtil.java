@@ -1,17 +1,36 @@
 package com.codedrill.shoppingmall.common.util;
 
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.exception.ErrorCode;
 import com.codedrill.shoppingmall.common.exception.JwtTokenInvalidException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
@@ -19,71 +38,172 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     String jwtSecretStr;
 
+    // 키 교체 직후에도 이전 키로 서명된 토큰을 받아주는 키 (없으면 빈 값)
+    @Value("${jwt.previous-secret:}")
+    String previousSecretStr;
+
+    // 이전 키를 허용하는 마감 시각 (ISO-8601, 예: 2026-10-18T00:00:00Z)
+    // 재시작할 때마다 허용 기간이 다시 늘어나지 않도록 기간이 아니라 고정된 시각으로 받음
+    @Value("${jwt.previous-secret-valid-until:}")
+    String previousSecretValidUntilStr;
+
+    // rotateKey로 실행 중에 키를 바꿀 때 이전 키를 허용하는 기간
+    @Value("${jwt.rotation-overlap:PT1H}")
+    Duration rotationOverlap;
+
     // AccessToken 만료 시간
     public static Long AC_EXPIRATION_IN_MS = 3600000L;
 
     // RefreshToken 만료 시간
     public static Long RF_EXPIRATION_IN_MS = 604800000L;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecretStr.getBytes(StandardCharsets.UTF_8));
-    }
+    // RefreshToken이 속한 로그인 세션(family) id
+    public static final String CLAIM_FAMILY_ID = "fid";
+
+    // 현재/이전 키를 한 묶음으로 바꿔서 서명과 검증이 항상 같은 키 조합을 보도록 함
+    private final AtomicReference<SigningKeys> signingKeys = new AtomicReference<>();
+
+    // parser는 kid로 키를 찾기 때문에 키가 바뀌어도 다시 만들 필요가 없음
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        SigningKey current = SigningKey.of(jwtSecretStr);
+        SigningKey previous = null;
+        Instant previousValidUntil = Instant.EPOCH;
+        if (StringUtils.hasText(previousSecretStr)) {
+            if (!StringUtils.hasText(previousSecretValidUntilStr)) {
+                throw new IllegalStateException("jwt.previous-secret을 쓰려면 jwt.previous-secret-valid-until이 필요합니다.");
+            }
+            previous = SigningKey.of(previousSecretStr);
+            previousValidUntil = Instant.parse(previousSecretValidUntilStr);
+        }
+        signingKeys.set(new SigningKeys(current, previous, previousValidUntil));
 
-    public String generateAccessToken(Long userId, String email, String name, String role) {
-        //TODO: accessToken 생성 로직 구현
+        jwtParser = Jwts.parser()
+                .keyLocator(new SigningKeyLocator())
+                .build();
+    }
 
-        return null;
+    /**
+     * 서명 키 교체
+     * - 새 토큰은 바로 새 키로 서명하고, 기존 키로 서명된 토큰은 rotationOverlap 동안만 허용
+     * - 재시작 후에도 이어가려면 jwt.secret/jwt.previous-secret/jwt.previous-secret-valid-until을 같이 바꿔야 함
+     */
+    public void rotateKey(String newSecret) {
+        SigningKey next = SigningKey.of(newSecret);
+        signingKeys.updateAndGet(keys -> new SigningKeys(next, keys.current(), Instant.now().plus(rotationOverlap)));
+        log.info("JWT 서명 키 교체 완료. kid: {}", next.id());
     }
 
-    public String generateRefreshToken(Long userId) {
-        //TODO: refreshToken 생성 로직 구현
+    public String generateAccessToken(Long userId, String email, String name, String role) {
+        SigningKey signingKey = signingKeys.get().current();
+        Date now = new Date();
+
+        return Jwts.builder()
+                .header().keyId(signingKey.id()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(String.valueOf(userId))
+                .claim("email", email)
+                .claim("name", name)
+                .claim("role", role)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + AC_EXPIRATION_IN_MS))
+                .signWith(signingKey.key())
+                .compact();
+    }
 
-        return null;
+    /**
+     * RefreshToken 생성
+     * - familyId: 로그인 한 번에 하나씩 만들어지는 세션 id, 재발급해도 유지됨
+     * - tokenId: 재발급마다 바뀌는 jti, Redis에 저장된 값과 비교해서 일회성 사용을 보장
+     */
+    public String generateRefreshToken(Long userId, String familyId, String tokenId) {
+        SigningKey signingKey = signingKeys.get().current();
+        Date now = new Date();
+
+        return Jwts.builder()
+                .header().keyId(signingKey.id()).and()
+                .id(tokenId)
+                .subject(String.valueOf(userId))
+                .claim(CLAIM_FAMILY_ID, familyId)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + RF_EXPIRATION_IN_MS))
+                .signWith(signingKey.key())
+                .compact();
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
-    public Long extractUserId(String token) {
-        Claims claims = extractClaims(token);
-        return Long.parseLong(claims.getSubject());
+    /**
+     * 토큰을 한 번만 검증/파싱해서 필요한 claim을 모두 꺼냄
+     * - 서명 검증과 만료 확인은 parser가 함께 처리
+     */
+    public ParsedToken parse(String token) {
+        try {
+            Jws<Claims> jws = jwtParser.parseSignedClaims(token);
+            return ParsedToken.from(jws.getPayload(), signingKeys.get().validUntil(jws.getHeader().getKeyId()));
+        } catch (Exception e) {
+            throw JwtTokenInvalidException.INSTANCE;
+        }
     }
 
-    public String extractUserName(String token) {
-        Claims claims = extractClaims(token);
-        return claims.get("name", String.class);
+    public Claims parseRefreshToken(String token) {
+        try {
+            Claims claims = extractClaims(token);
+            if (claims.getId() == null || claims.get(CLAIM_FAMILY_ID, String.class) == null) {
+                throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+            }
+            return claims;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
     }
 
-    public String extractEmail(String token) {
-        Claims claims = extractClaims(token);
-        return claims.get("email", String.class);
+    private class SigningKeyLocator extends LocatorAdapter<Key> {
+        @Override
+        protected Key locate(JwsHeader header) {
+            return signingKeys.get().find(header.getKeyId(), Instant.now());
+        }
     }
 
-    public String extractRole(String token) {
-        Claims claims = extractClaims(token);
-        return claims.get("role", String.class);
-    }
+    private record SigningKey(String id, SecretKey key) {
+        static SigningKey of(String secret) {
+            byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+            return new SigningKey(keyIdOf(secretBytes), Keys.hmacShaKeyFor(secretBytes));
+        }
 
-    public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = extractClaims(token);
-            return claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            throw JwtTokenInvalidException.INSTANCE;
+        // 노드끼리 같은 kid를 쓰도록 시크릿 해시 앞부분으로 kid 생성
+        private static String keyIdOf(byte[] secretBytes) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(secretBytes);
+                return Encoders.BASE64URL.encode(Arrays.copyOf(digest, 8));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
         }
     }
 
-    public boolean validateToken(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            throw JwtTokenInvalidException.INSTANCE;
+    private record SigningKeys(SigningKey current, SigningKey previous, Instant previousValidUntil) {
+        SecretKey find(String keyId, Instant now) {
+            // kid가 없는 토큰은 현재 키로 검증
+            if (keyId == null || keyId.equals(current.id())) {
+                return current.key();
+            }
+            if (previous != null && keyId.equals(previous.id()) && now.isBefore(previousValidUntil)) {
+                return previous.key();
+            }
+            return null;
+        }
+
+        // 이전 키로 서명된 토큰만 허용 기간이 있음
+        Date validUntil(String keyId) {
+            if (previous != null && keyId != null && !keyId.equals(current.id()) && keyId.equals(previous.id())) {
+                return Date.from(previousValidUntil);
+            }
+            return null;
         }
     }
 }
-
@@ -0,0 +1,94 @@
+package com.codedrill.shoppingmall.common.util;
+
+import java.util.Objects;
+
+/**
+ * long key 전용 해시 맵
+ * - key를 Long으로 boxing하지 않고 long[]에 저장 (open addressing, linear probing)
+ * - null 값과 삭제는 지원하지 않음 (한 번 채운 뒤 조회하는 용도)
+ * - 동기화하지 않으므로 한 스레드 안에서만 사용
+ */
+public class LongKeyMap<V> {
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public LongKeyMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int index = indexOf(key); values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                return (V) values[index];
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value);
+        if ((size + 1) * 2 > values.length) {
+            resize();
+        }
+
+        int index = indexOf(key);
+        for (; values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        return null;
+    }
+
+    // 채움 비율을 1/2 이하로 유지
+    private static int capacityFor(int expectedSize) {
+        int capacity = 4;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(values.length * 2);
+        size = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+
+    // 연속된 id가 한쪽에 몰리지 않도록 섞어서 index 계산
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,90 @@
+package com.codedrill.shoppingmall.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 long 목록 (역색인의 posting list 용도)
+ * - boxing 없이 long[]에 오름차순으로 저장
+ * - 동기화하지 않으므로 외부에서 lock으로 보호해야 함
+ */
+public class LongPostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(long value) {
+        // 대부분 id가 증가하는 순서로 들어오므로 끝에 붙이는 경우를 먼저 확인
+        if (size > 0 && values[size - 1] >= value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return;
+            }
+            insertAt(-index - 1, value);
+            return;
+        }
+        insertAt(size, value);
+    }
+
+    public void remove(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * sorted(오름차순, 앞 length개)와 이 목록의 교집합
+     * - 크기 차이가 크면 작은 쪽 기준으로 이진 탐색, 비슷하면 병합 방식으로 비교
+     */
+    public int intersect(long[] sorted, int length, long[] out) {
+        int count = 0;
+        if (length * 8L < size) {
+            for (int i = 0; i < length; i++) {
+                if (Arrays.binarySearch(values, 0, size, sorted[i]) >= 0) {
+                    out[count++] = sorted[i];
+                }
+            }
+            return count;
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < length && j < size) {
+            if (sorted[i] < values[j]) {
+                i++;
+            } else if (sorted[i] > values[j]) {
+                j++;
+            } else {
+                out[count++] = sorted[i];
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private void insertAt(int index, long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+}
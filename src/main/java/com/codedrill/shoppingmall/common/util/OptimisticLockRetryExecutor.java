@@ -0,0 +1,109 @@
+package com.codedrill.shoppingmall.common.util;
+
+import com.codedrill.shoppingmall.common.exception.ConcurrentModificationConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌(@Version) 시 작업 전체를 다시 실행
+ * - action은 매번 새 트랜잭션이어야 함 (트랜잭션 밖에서 호출)
+ * - 재시도 간격은 지수 증가 + full jitter (같이 충돌한 요청끼리 다시 부딪히지 않도록)
+ * - 재시도 예산: 실행마다 budget-ratio만큼 쌓이고 재시도마다 1씩 소모, 충돌이 몰리면 재시도 없이 바로 실패
+ * - optimistic.retry.executions / conflicts / retries / exhausted 메트릭 (operation 태그)
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final double budgetRatio;
+    private final double budgetMax;
+
+    private final Object budgetLock = new Object();
+    private double budget;
+
+    public OptimisticLockRetryExecutor(MeterRegistry meterRegistry,
+                                       @Value("${order.retry.max-attempts:5}") int maxAttempts,
+                                       @Value("${order.retry.initial-backoff:PT0.01S}") Duration initialBackoff,
+                                       @Value("${order.retry.max-backoff:PT0.2S}") Duration maxBackoff,
+                                       @Value("${order.retry.budget-ratio:0.1}") double budgetRatio,
+                                       @Value("${order.retry.budget-max:20}") double budgetMax) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = Math.max(1, initialBackoff.toMillis());
+        this.maxBackoffMs = Math.max(initialBackoffMs, maxBackoff.toMillis());
+        this.budgetRatio = budgetRatio;
+        this.budgetMax = budgetMax;
+        this.budget = budgetMax;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        meterRegistry.counter("optimistic.retry.executions", "operation", operation).increment();
+        deposit();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("optimistic.retry.conflicts", "operation", operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    giveUp(operation, "attempts", attempt);
+                }
+                if (!withdraw()) {
+                    giveUp(operation, "budget", attempt);
+                }
+
+                meterRegistry.counter("optimistic.retry.retries", "operation", operation).increment();
+                sleep(backoff(attempt));
+            }
+        }
+    }
+
+    // attempt번째 실패 후 대기 시간: 0 ~ min(max, initial * 2^(attempt-1)) 사이 임의 값
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void deposit() {
+        synchronized (budgetLock) {
+            budget = Math.min(budgetMax, budget + budgetRatio);
+        }
+    }
+
+    private boolean withdraw() {
+        synchronized (budgetLock) {
+            if (budget < 1) {
+                return false;
+            }
+            budget -= 1;
+            return true;
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentModificationConflictException();
+        }
+    }
+
+    private void giveUp(String operation, String reason, int attempts) {
+        meterRegistry.counter("optimistic.retry.exhausted", "operation", operation, "reason", reason).increment();
+        log.warn("낙관적 락 충돌로 재시도 중단. operation: {}, reason: {}, attempts: {}", operation, reason, attempts);
+        throw new ConcurrentModificationConflictException();
+    }
+}
@@ -0,0 +1,63 @@
+package com.codedrill.shoppingmall.common.util;
+
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 AccessToken의 claim 값
+ * - JwtUtil.parse()에서 한 번만 만들어지고, 이후에는 다시 파싱하지 않고 그대로 전달해서 사용
+ */
+@Getter
+public class ParsedToken {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final String tokenId;
+    private final Long userId;
+    private final String email;
+    private final String name;
+    private final String role;
+    private final Date expiration;
+    // 검증 결과를 다시 쓸 수 있는 시각 (토큰 만료 시각과 서명 키를 허용하는 기간 중 빠른 쪽)
+    private final Date verifiedUntil;
+    private final PrincipalDetails principalDetails;
+
+    private ParsedToken(String tokenId, Long userId, String email, String name, String role, Date expiration,
+                        Date verifiedUntil) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.expiration = expiration;
+        this.verifiedUntil = verifiedUntil;
+
+        String authority = role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role;
+        Collection<? extends GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(authority));
+        this.principalDetails = new PrincipalDetails(userId, email, name, null, authorities);
+    }
+
+    /**
+     * keyValidUntil: 서명한 키를 허용하는 마지막 시각 (기간 제한이 없는 키면 null)
+     */
+    public static ParsedToken from(Claims claims, Date keyValidUntil) {
+        Date expiration = claims.getExpiration();
+        Date verifiedUntil = keyValidUntil != null && keyValidUntil.before(expiration) ? keyValidUntil : expiration;
+        return new ParsedToken(
+                claims.getId(),
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                claims.get("role", String.class),
+                expiration,
+                verifiedUntil
+        );
+    }
+}
@@ -32,5 +32,32 @@ public class SecurityUtil {
     public static boolean isAdmin(PrincipalDetails user) {
         return hasRole(user, EnumRole.ADMIN);
     }
+
+    /**
+     * 현재 SecurityContext의 Authentication이 ADMIN 권한을 가지고 있는지 확인
+     * - principal이 PrincipalDetails가 아닌 경우에도 authorities 기준으로 판단
+     */
+    public static boolean isCurrentUserAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return false;
+        }
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).filter(Objects::nonNull)
+                .anyMatch(authority -> authority.equals("ROLE_" + EnumRole.ADMIN.name()));
+    }
+
+    /**
+     * 현재 요청의 AccessToken 파싱 결과 (JwtAuthenticationFilter가 Authentication details에 넣어 둠)
+     * - AccessToken으로 인증된 요청이 아니면 null
+     */
+    public static ParsedToken currentParsedToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof ParsedToken parsedToken) {
+            return parsedToken;
+        }
+        return null;
+    }
 }
 
@@ -0,0 +1,157 @@
+package com.codedrill.shoppingmall.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시
+ * - 조회: L1 -> L2 -> loader 순서로 확인하고, 아래 단계에서 찾은 값은 위 단계에 채움
+ * - 같은 key의 loader는 노드 안에서 한 번만 실행 (Caffeine의 key 단위 compute로 single-flight)
+ * - put/evict/clear는 pub/sub으로 다른 노드에 알려서 각 노드의 L1도 비움
+ * - Redis 장애 시에는 L1 + loader만으로 동작
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final String CLEAR_ALL = "*";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final org.springframework.cache.Cache redisCache;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+    private final String nodeId;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                         org.springframework.cache.Cache redisCache,
+                         RedisTemplate<String, Object> redisTemplate,
+                         String channel,
+                         String nodeId) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = lookupRemote(key);
+        if (value != null) {
+            localCache.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) localCache.get(key, k -> {
+            Object value = lookupRemote(k);
+            if (value != null) {
+                return value;
+            }
+
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(k, valueLoader, e);
+            }
+            if (value != null) {
+                putRemote(k, value);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        putRemote(key, value);
+        localCache.put(key, value);
+        publish(key.toString());
+    }
+
+    @Override
+    public void evict(Object key) {
+        try {
+            redisCache.evict(key);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 삭제 실패. cache: {}, key: {}", name, key, e);
+        }
+        localCache.invalidate(key);
+        publish(key.toString());
+    }
+
+    @Override
+    public void clear() {
+        try {
+            redisCache.clear();
+        } catch (Exception e) {
+            log.warn("Redis 캐시 전체 삭제 실패. cache: {}", name, e);
+        }
+        localCache.invalidateAll();
+        publish(CLEAR_ALL);
+    }
+
+    /**
+     * 다른 노드에서 보낸 변경 알림을 받아 L1만 비움
+     */
+    void evictLocal(String key) {
+        if (CLEAR_ALL.equals(key)) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    private Object lookupRemote(Object key) {
+        try {
+            ValueWrapper wrapper = redisCache.get(key);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (Exception e) {
+            log.warn("Redis 캐시 조회 실패. cache: {}, key: {}", name, key, e);
+            return null;
+        }
+    }
+
+    private void putRemote(Object key, Object value) {
+        try {
+            redisCache.put(key, value);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 저장 실패. cache: {}, key: {}", name, key, e);
+        }
+    }
+
+    private void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(channel, String.join("|", nodeId, name, key));
+        } catch (Exception e) {
+            log.warn("캐시 변경 알림 발행 실패. cache: {}, key: {}", name, key, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.codedrill.shoppingmall.common.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RedisCacheManager의 캐시마다 Caffeine L1을 붙여서 TwoLevelCache로 제공
+ * - cache key는 문자열을 사용 (다른 노드에 보내는 무효화 알림이 문자열 key 기준)
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+    private final Duration localTtl;
+    private final long localMaximumSize;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                RedisTemplate<String, Object> redisTemplate,
+                                String channel,
+                                Duration localTtl,
+                                long localMaximumSize) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.localTtl = localTtl;
+        this.localMaximumSize = localMaximumSize;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache redisCache = redisCacheManager.getCache(cacheName);
+            if (redisCache == null) {
+                return null;
+            }
+            return new TwoLevelCache(cacheName,
+                    Caffeine.newBuilder()
+                            .maximumSize(localMaximumSize)
+                            .expireAfterWrite(localTtl)
+                            .build(),
+                    redisCache, redisTemplate, channel, nodeId);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 메시지 형식: nodeId|cacheName|key
+     * - 자기 자신이 보낸 알림은 이미 처리했으므로 무시
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts[2]);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.codedrill.shoppingmall.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증이 끝난 AccessToken 캐시
+ * - 같은 토큰이 다시 들어오면 HMAC 검증 없이 ParsedToken을 재사용
+ * - 키는 토큰 원문 대신 SHA-256 digest를 사용하고, 항목은 토큰의 exp 시각에 만료
+ * - 이전 키로 서명된 토큰은 이전 키를 허용하는 기간이 끝나는 시각에 먼저 만료 (이후에는 다시 검증해서 거절)
+ * - 히트율은 cache.gets / cache.evictions 등 jwt.verified-tokens 메트릭으로 확인
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, ParsedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없으면 verifier로 검증한 결과를 저장
+     * - 검증 실패 시 verifier의 예외가 그대로 전파되고 캐시에는 저장되지 않음
+     */
+    public ParsedToken getOrVerify(String token, Function<String, ParsedToken> verifier) {
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * 토큰 폐기(로그아웃, 강제 만료) 시 즉시 캐시에서 제거
+     */
+    public void evict(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Encoders.BASE64URL.encode(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, ParsedToken> {
+        @Override
+        public long expireAfterCreate(String key, ParsedToken value, long currentTime) {
+            long remainingMs = value.getVerifiedUntil().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ParsedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ParsedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.codedrill.shoppingmall.order.controller;
 
 import com.codedrill.shoppingmall.common.consts.RestUriConst;
+import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
 import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
 import com.codedrill.shoppingmall.common.response.Response;
 import com.codedrill.shoppingmall.order.dto.OrderCreateRequest;
@@ -26,51 +27,54 @@ public class OrderController {
     @PostMapping
     @Operation(summary = "주문 생성")
     public Response<OrderResponse> createOrder(
-            @Valid @RequestBody OrderCreateRequest request
+            @Valid @RequestBody OrderCreateRequest request,
+            @AuthenticationPrincipal PrincipalDetails user
     ) {
-        //TODO: 주문 생성 구현
-
-        return Response.success();
+        return Response.success(orderService.createOrder(request, user));
     }
 
     @GetMapping("/my")
     @Operation(summary = "내 주문 목록 조회")
-    public Response<Page<OrderResponse>> getMyOrders() {
-        //TODO: 내 주문 목록 조회 구현
-
-        return Response.success();
+    public Response<Page<OrderResponse>> getMyOrders(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) EnumOrderStatus status,
+            @AuthenticationPrincipal PrincipalDetails user
+    ) {
+        return Response.success(orderService.getMyOrders(user, status, page, size));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "주문 상세 조회")
-    public Response<OrderDetailResponse> getOrder(@PathVariable Long id) {
-        //TODO: 주문 상세 조회 구현
-
-        return Response.success();
+    public Response<OrderDetailResponse> getOrder(
+            @PathVariable Long id,
+            @AuthenticationPrincipal PrincipalDetails user
+    ) {
+        return Response.success(orderService.getOrder(id, user));
     }
 
     @PatchMapping("/{id}/pay")
     @Operation(summary = "주문 결제")
-    public Response<OrderResponse> payOrder(@PathVariable Long id) {
-        //TODO: 주문 결제 구현
-
-        return Response.success();
+    public Response<OrderResponse> payOrder(
+            @PathVariable Long id,
+            @AuthenticationPrincipal PrincipalDetails user
+    ) {
+        return Response.success(orderService.payOrder(id, user));
     }
 
     @PatchMapping("/{id}/cancel")
     @Operation(summary = "주문 취소")
-    public Response<OrderResponse> cancelOrder(@PathVariable Long id) {
-        //TODO: 주문 취소 구현
-
-        return Response.success();
+    public Response<OrderResponse> cancelOrder(
+            @PathVariable Long id,
+            @AuthenticationPrincipal PrincipalDetails user
+    ) {
+        return Response.success(orderService.cancelOrder(id, user));
     }
 
     @PatchMapping("/{id}/complete")
     @Operation(summary = "주문 완료")
     public Response<OrderResponse> completeOrder(@PathVariable Long id) {
-        //TODO: 주문 완료 구현
-
-        return Response.success();
+        return Response.success(orderService.completeOrder(id));
     }
 
 }
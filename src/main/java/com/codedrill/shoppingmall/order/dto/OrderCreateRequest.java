@@ -11,6 +11,8 @@ import java.util.List;
 @NoArgsConstructor
 public class OrderCreateRequest {
 
+    @Valid
+    @NotEmpty(message = "주문 항목은 최소 1개 이상이어야 합니다.")
     private List<OrderItemRequest> items;
 }
 
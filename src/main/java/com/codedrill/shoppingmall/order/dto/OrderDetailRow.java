@@ -0,0 +1,27 @@
+package com.codedrill.shoppingmall.order.dto;
+
+import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상세 조회 결과 한 줄 (주문 + 주문 항목 1개 + 상품명)
+ * - 주문 항목이 없는 주문이면 item 관련 값이 모두 null인 한 줄
+ */
+@Getter
+@AllArgsConstructor
+public class OrderDetailRow {
+    private Long orderId;
+    private Long userId;
+    private EnumOrderStatus status;
+    private Long totalPrice;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long itemId;
+    private Long productId;
+    private String productName;
+    private Long price;
+    private Integer quantity;
+}
@@ -5,6 +5,7 @@ import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
 import com.codedrill.shoppingmall.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "orders")
@@ -14,8 +15,10 @@ import lombok.*;
 @AllArgsConstructor
 public class Order extends BaseEntity {
 
+    // IDENTITY는 INSERT마다 id를 받아와야 해서 JDBC batch가 꺼지므로 pooled sequence 사용 (한 번에 50개씩 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,5 +32,9 @@ public class Order extends BaseEntity {
     @Column(nullable = false)
     private Long totalPrice;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
 
@@ -4,6 +4,7 @@ import com.codedrill.shoppingmall.common.entity.BaseEntity;
 import com.codedrill.shoppingmall.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "order_items")
@@ -14,7 +15,8 @@ import lombok.*;
 public class OrderItem extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq_generator")
+    @SequenceGenerator(name = "order_items_seq_generator", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,5 +33,10 @@ public class OrderItem extends BaseEntity {
     @Column(nullable = false)
     private Integer quantity;
 
+    // products.stock에 반영되었는지 여부 (hot 상품은 Redis에서 먼저 차감하고 HotStockReconciler가 나중에 반영)
+    @ColumnDefault("true")
+    @Column(nullable = false)
+    private boolean stockApplied;
+
 }
 
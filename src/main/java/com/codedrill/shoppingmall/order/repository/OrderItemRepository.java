@@ -1,13 +1,44 @@
 package com.codedrill.shoppingmall.order.repository;
 
 import com.codedrill.shoppingmall.order.entity.OrderItem;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
-}
+    List<OrderItem> findByOrderId(Long orderId);
+
+    /**
+     * 주문 취소 시 재고 반영 여부를 확정하기 위해 주문 항목을 잠그고 조회 (HotStockReconciler와 동시에 처리하지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from OrderItem i where i.order.id in :orderIds order by i.id")
+    List<OrderItem> findByOrderIdInForUpdate(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 아직 products.stock에 반영되지 않은 주문 항목이 있는 상품
+     */
+    @Query("select distinct i.product.id from OrderItem i where i.stockApplied = false")
+    List<Long> findStockPendingProductIds();
 
+    /**
+     * 상품 하나의 아직 products.stock에 반영되지 않은 주문 항목 (반영이 끝날 때까지 row lock)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from OrderItem i where i.product.id = :productId and i.stockApplied = false order by i.id")
+    List<OrderItem> findStockPendingForUpdate(@Param("productId") Long productId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update OrderItem i set i.stockApplied = true where i.id in :ids")
+    int markStockApplied(@Param("ids") Collection<Long> ids);
+}
@@ -1,5 +1,6 @@
 package com.codedrill.shoppingmall.order.repository;
 
+import com.codedrill.shoppingmall.order.dto.OrderDetailRow;
 import com.codedrill.shoppingmall.order.entity.Order;
 import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
 import com.codedrill.shoppingmall.user.entity.User;
@@ -10,8 +11,30 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+    Page<Order> findByUserId(Long userId, Pageable pageable);
+
+    Page<Order> findByUserIdAndStatus(Long userId, EnumOrderStatus status, Pageable pageable);
+
+    /**
+     * 주문, 주문 항목, 상품명을 한 번의 조회로 가져옴 (주문 항목마다 한 줄, 없는 주문이면 빈 목록)
+     */
+    @Query("select new com.codedrill.shoppingmall.order.dto.OrderDetailRow("
+            + "o.id, o.user.id, o.status, o.totalPrice, o.createdAt, o.updatedAt, "
+            + "i.id, p.id, p.name, i.price, i.quantity) "
+            + "from Order o left join OrderItem i on i.order = o left join i.product p "
+            + "where o.id = :orderId order by i.id")
+    List<OrderDetailRow> findDetailRows(@Param("orderId") Long orderId);
 
+    /**
+     * 가장 오래된 CREATED 주문의 생성 시각 (없으면 null)
+     */
+    @Query("select min(o.createdAt) from Order o where o.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") EnumOrderStatus status);
 }
 
@@ -0,0 +1,24 @@
+package com.codedrill.shoppingmall.order.repository;
+
+import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
+import com.codedrill.shoppingmall.order.dto.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderRepositoryCustom {
+
+    /**
+     * 현재 상태가 next로 바뀔 수 있는 상태일 때만 next로 변경하고 변경된 주문 반환 (compare-and-set)
+     * - userId가 있으면 해당 사용자의 주문일 때만 변경
+     * - 조건에 맞지 않으면(없는 주문, 다른 사용자 주문, 전이 불가능한 상태) empty
+     */
+    Optional<OrderResponse> transition(Long orderId, EnumOrderStatus next, Long userId);
+
+    /**
+     * createdBefore 이전에 만들어진 CREATED 주문을 오래된 순으로 최대 limit개 CANCELLED로 변경하고 변경된 주문 id 반환
+     * - 다른 트랜잭션이 잠근 주문(결제/취소 중이거나 다른 노드가 처리 중)은 기다리지 않고 건너뜀 (FOR UPDATE SKIP LOCKED)
+     */
+    List<Long> cancelExpired(LocalDateTime createdBefore, int limit);
+}
@@ -0,0 +1,110 @@
+package com.codedrill.shoppingmall.order.repository;
+
+import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
+import com.codedrill.shoppingmall.order.dto.OrderResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 상태 변경 쿼리
+ * - 상태 확인과 변경을 조건부 UPDATE 한 문장으로 처리해서 동시에 요청이 와도 한 번만 성공
+ * - PostgreSQL에서는 RETURNING으로 변경된 row까지 한 번에 받아옴 (그 외 DB는 UPDATE 후 다시 조회)
+ * - 만료 주문 취소는 PostgreSQL에서 SKIP LOCKED 조회와 UPDATE를 한 문장으로 실행 (그 외 DB는 FOR UPDATE 조회 후 UPDATE)
+ */
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private static final String COLUMNS = "id, user_id, status, total_price, created_at, updated_at";
+
+    private static final RowMapper<OrderResponse> ORDER_RESPONSE_MAPPER = (rs, rowNum) -> OrderResponse.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getLong("user_id"))
+            .status(rs.getString("status"))
+            .totalPrice(rs.getLong("total_price"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public Optional<OrderResponse> transition(Long orderId, EnumOrderStatus next, Long userId) {
+        List<EnumOrderStatus> sources = new ArrayList<>(EnumOrderStatus.sourcesOf(next));
+        if (sources.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(next.name());
+        arguments.add(Timestamp.valueOf(LocalDateTime.now()));
+        arguments.add(orderId);
+        sources.forEach(source -> arguments.add(source.name()));
+
+        StringBuilder sql = new StringBuilder("UPDATE orders SET status = ?, updated_at = ?, version = version + 1")
+                .append(" WHERE id = ? AND status IN (")
+                .append(sources.stream().map(source -> "?").collect(Collectors.joining(", ")))
+                .append(")");
+        if (userId != null) {
+            sql.append(" AND user_id = ?");
+            arguments.add(userId);
+        }
+
+        if (isPostgres()) {
+            sql.append(" RETURNING ").append(COLUMNS);
+            return jdbcTemplate.query(sql.toString(), ORDER_RESPONSE_MAPPER, arguments.toArray()).stream().findFirst();
+        }
+
+        if (jdbcTemplate.update(sql.toString(), arguments.toArray()) == 0) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM orders WHERE id = ?", ORDER_RESPONSE_MAPPER, orderId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<Long> cancelExpired(LocalDateTime createdBefore, int limit) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // idx_orders_created_expiry(created_at, id) WHERE status = 'CREATED' 순서대로 읽음
+        String expired = "SELECT id FROM orders WHERE status = ? AND created_at < ? ORDER BY created_at, id LIMIT ?";
+
+        if (isPostgres()) {
+            return jdbcTemplate.queryForList("UPDATE orders SET status = ?, updated_at = ?, version = version + 1"
+                            + " WHERE id IN (" + expired + " FOR UPDATE SKIP LOCKED) RETURNING id",
+                    Long.class, EnumOrderStatus.CANCELLED.name(), now,
+                    EnumOrderStatus.CREATED.name(), Timestamp.valueOf(createdBefore), limit);
+        }
+
+        List<Long> orderIds = jdbcTemplate.queryForList(expired + " FOR UPDATE", Long.class,
+                EnumOrderStatus.CREATED.name(), Timestamp.valueOf(createdBefore), limit);
+        if (orderIds.isEmpty()) {
+            return orderIds;
+        }
+        List<Object[]> arguments = orderIds.stream()
+                .map(orderId -> new Object[]{EnumOrderStatus.CANCELLED.name(), now, orderId})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE orders SET status = ?, updated_at = ?, version = version + 1 WHERE id = ?", arguments);
+        return orderIds;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String databaseName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(databaseName);
+            postgres = result;
+        }
+        return result;
+    }
+}
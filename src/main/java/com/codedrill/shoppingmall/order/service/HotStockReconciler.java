@@ -0,0 +1,93 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.order.entity.OrderItem;
+import com.codedrill.shoppingmall.order.repository.OrderItemRepository;
+import com.codedrill.shoppingmall.product.event.ProductStockChangedEvent;
+import com.codedrill.shoppingmall.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis에서 먼저 차감한 hot 상품 재고를 products.stock에 모아서 반영
+ * - 상품별로 반영 대기 중인 주문 항목을 잠그고, 합계를 UPDATE 한 번으로 반영한 뒤 반영 완료로 표시 (상품별 한 트랜잭션)
+ * - 한 상품의 반영이 실패해도 다른 상품은 계속 반영 (실패한 상품은 다음 실행에서 다시 시도)
+ * - 반영 여부가 주문 항목에 남기 때문에 중간에 죽어도 다음 실행에서 남은 항목만 이어서 반영 (중복/누락 없음)
+ * - AsyncConfig의 executor에서 실행되며, 이전 실행이 끝나지 않았으면 건너뜀
+ */
+@Slf4j
+@Component
+public class HotStockReconciler {
+
+    private final OrderItemRepository orderItemRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public HotStockReconciler(OrderItemRepository orderItemRepository,
+                              ProductRepository productRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${product.hot-stock.reconcile-batch-size:1000}") int batchSize) {
+        this.orderItemRepository = orderItemRepository;
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Async
+    @Scheduled(fixedDelayString = "${product.hot-stock.reconcile-interval:PT1S}")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            new TreeSet<>(orderItemRepository.findStockPendingProductIds()).forEach(this::reconcile);
+        } catch (Exception e) {
+            log.warn("hot 상품 재고 반영 대상 조회 실패. 다음 실행에서 다시 시도합니다.", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void reconcile(Long productId) {
+        try {
+            Integer applied;
+            do {
+                applied = transactionTemplate.execute(status -> applyBatch(productId));
+            } while (applied != null && applied == batchSize);
+        } catch (Exception e) {
+            log.warn("hot 상품 재고 반영 실패. 다음 실행에서 다시 시도합니다. productId: {}", productId, e);
+        }
+    }
+
+    private int applyBatch(Long productId) {
+        List<OrderItem> items = orderItemRepository.findStockPendingForUpdate(productId, PageRequest.of(0, batchSize));
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        int quantity = items.stream().mapToInt(OrderItem::getQuantity).sum();
+        productRepository.subtractStock(productId, quantity);
+        orderItemRepository.markStockApplied(items.stream().map(OrderItem::getId).toList());
+        eventPublisher.publishEvent(new ProductStockChangedEvent(productId));
+
+        log.debug("hot 상품 재고 반영. productId: {}, items: {}, quantity: {}", productId, items.size(), quantity);
+        return items.size();
+    }
+}
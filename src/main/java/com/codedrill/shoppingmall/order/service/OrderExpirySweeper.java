@@ -0,0 +1,105 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
+import com.codedrill.shoppingmall.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제되지 않고 예약 시간(order.reservation.ttl)이 지난 CREATED 주문을 취소하고 재고 복구
+ * - 오래된 주문부터 batch 단위로 취소하고, batch마다 한 트랜잭션에서 재고까지 복구
+ * - 다른 트랜잭션이 잠근 주문은 건너뛰므로(SKIP LOCKED) 여러 노드에서 동시에 실행해도 같은 주문을 두 번 처리하지 않음
+ * - AsyncConfig의 executor에서 실행되며, 이전 실행이 끝나지 않았으면 건너뜀
+ */
+@Slf4j
+@Component
+public class OrderExpirySweeper {
+
+    private final OrderRepository orderRepository;
+    private final OrderStockRestorer orderStockRestorer;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    // 만료 시각이 지났는데 아직 취소되지 않은 가장 오래된 주문의 지연 시간
+    private final AtomicLong lagMs = new AtomicLong();
+
+    private final Counter expiredCounter;
+    private final Timer batchTimer;
+
+    public OrderExpirySweeper(OrderRepository orderRepository,
+                              OrderStockRestorer orderStockRestorer,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${order.reservation.ttl:PT15M}") Duration ttl,
+                              @Value("${order.reservation.expiry-batch-size:100}") int batchSize) {
+        this.orderRepository = orderRepository;
+        this.orderStockRestorer = orderStockRestorer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.batchSize = batchSize;
+
+        this.expiredCounter = meterRegistry.counter("order.expiry.expired");
+        this.batchTimer = meterRegistry.timer("order.expiry.batch");
+        TimeGauge.builder("order.expiry.lag", lagMs, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Async
+    @Scheduled(fixedDelayString = "${order.reservation.expiry-interval:PT30S}")
+    public void sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int expired;
+            do {
+                LocalDateTime expiresBefore = LocalDateTime.now().minus(ttl);
+                Timer.Sample sample = Timer.start();
+                expired = transactionTemplate.execute(status -> expireBatch(expiresBefore));
+                sample.stop(batchTimer);
+                expiredCounter.increment(expired);
+            } while (expired == batchSize);
+
+            updateLag();
+        } catch (Exception e) {
+            log.warn("만료 주문 취소 실패. 다음 실행에서 다시 시도합니다.", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int expireBatch(LocalDateTime expiresBefore) {
+        List<Long> orderIds = orderRepository.cancelExpired(expiresBefore, batchSize);
+        orderStockRestorer.restore(orderIds);
+
+        if (!orderIds.isEmpty()) {
+            log.debug("만료 주문 취소. orders: {}", orderIds.size());
+        }
+        return orderIds.size();
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = orderRepository.findOldestCreatedAt(EnumOrderStatus.CREATED);
+        long lag = oldest == null ? 0 : Duration.between(oldest.plus(ttl), LocalDateTime.now()).toMillis();
+        lagMs.set(Math.max(0, lag));
+    }
+}
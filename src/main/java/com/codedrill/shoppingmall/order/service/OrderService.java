@@ -1,34 +1,358 @@
 package com.codedrill.shoppingmall.order.service;
 
 import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
+import com.codedrill.shoppingmall.common.enums.EnumStockLockStrategy;
 import com.codedrill.shoppingmall.common.exception.BusinessException;
 import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import com.codedrill.shoppingmall.common.util.LongKeyMap;
+import com.codedrill.shoppingmall.common.util.OptimisticLockRetryExecutor;
 import com.codedrill.shoppingmall.common.util.SecurityUtil;
 import com.codedrill.shoppingmall.order.dto.*;
 import com.codedrill.shoppingmall.order.entity.Order;
 import com.codedrill.shoppingmall.order.entity.OrderItem;
-import com.codedrill.shoppingmall.common.enums.EnumOrderStatus;
 import com.codedrill.shoppingmall.order.repository.OrderItemRepository;
 import com.codedrill.shoppingmall.order.repository.OrderRepository;
 import com.codedrill.shoppingmall.product.entity.Product;
-import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
+import com.codedrill.shoppingmall.product.event.ProductStockChangedEvent;
+import com.codedrill.shoppingmall.product.hotstock.HotStockService;
 import com.codedrill.shoppingmall.product.repository.ProductRepository;
-import com.codedrill.shoppingmall.user.entity.User;
 import com.codedrill.shoppingmall.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_HOT_STOCK_SEED_ATTEMPTS = 3;
+
+    private final OrderRepository orderRepository;
+
+    private final OrderItemRepository orderItemRepository;
+
+    private final ProductRepository productRepository;
+
+    private final UserRepository userRepository;
+
+    private final HotStockService hotStockService;
+
+    private final OrderStockRestorer orderStockRestorer;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final OptimisticLockRetryExecutor retryExecutor;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final EnumStockLockStrategy lockStrategy;
+
+    public OrderService(OrderRepository orderRepository,
+                        OrderItemRepository orderItemRepository,
+                        ProductRepository productRepository,
+                        UserRepository userRepository,
+                        HotStockService hotStockService,
+                        OrderStockRestorer orderStockRestorer,
+                        ApplicationEventPublisher eventPublisher,
+                        OptimisticLockRetryExecutor retryExecutor,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${order.stock.lock-strategy:ATOMIC}") EnumStockLockStrategy lockStrategy) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.hotStockService = hotStockService;
+        this.orderStockRestorer = orderStockRestorer;
+        this.eventPublisher = eventPublisher;
+        this.retryExecutor = retryExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lockStrategy = lockStrategy;
+    }
+
+    /**
+     * 주문 생성
+     * - 재고 차감 방식은 order.stock.lock-strategy로 선택 (기본값 ATOMIC: 상품별 조건부 UPDATE 한 문장)
+     * - 여러 상품을 주문할 때는 항상 상품 id 오름차순으로 차감해서 주문끼리 row lock 순서가 엇갈리지 않도록 함 (deadlock 방지)
+     * - 중간에 실패하면 트랜잭션 롤백으로 앞에서 차감한 재고도 함께 복구
+     * - hot 상품은 products row 대신 Redis 카운터에서 차감 (HotStockService, 카운터가 없으면 seed 후 다시 실행)
+     * - 낙관적 락 충돌이면 트랜잭션 전체를 다시 실행
+     */
+    public OrderResponse createOrder(OrderCreateRequest request, PrincipalDetails user) {
+        if (user == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        return retryExecutor.execute("order.create", () -> createSeedingHotStock(request, user));
+    }
+
+    /**
+     * hot 상품 카운터가 없으면 주문 트랜잭션을 롤백(shared lock 해제)한 뒤 DB 기준으로 seed하고 다시 실행
+     */
+    private OrderResponse createSeedingHotStock(OrderCreateRequest request, PrincipalDetails user) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> create(request, user));
+            } catch (HotStockService.NotInitializedException e) {
+                if (attempt == MAX_HOT_STOCK_SEED_ATTEMPTS) {
+                    throw new BusinessException(ErrorCode.SERVER_BUSY);
+                }
+                hotStockService.seed(request.getItems().stream().map(OrderItemRequest::getProductId).toList());
+            }
+        }
+    }
+
+    private OrderResponse create(OrderCreateRequest request, PrincipalDetails user) {
+        // 같은 상품이 여러 줄로 들어오면 수량을 합쳐서 한 번에 차감
+        Map<Long, Integer> quantities = new TreeMap<>();
+        request.getItems().forEach(item -> quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+
+        // 주문에 포함된 상품을 한 번에 조회하고, 상태 확인과 가격 스냅샷은 메모리에서 처리
+        LongKeyMap<Product> products = findProducts(quantities.keySet());
+        long totalPrice = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null || product.isDeleted()) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+            if (!product.isApproved()) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_APPROVED);
+            }
+            totalPrice += product.getPrice() * entry.getValue();
+        }
+
+        quantities.forEach((productId, quantity) -> {
+            if (hotStockService.isHot(productId)) {
+                hotStockService.reserve(productId, quantity);
+            } else {
+                reserveStock(products.get(productId), quantity);
+            }
+        });
+        if (lockStrategy != EnumStockLockStrategy.ATOMIC) {
+            productRepository.flush();
+        }
+
+        Order order = orderRepository.save(Order.builder()
+                .user(userRepository.getReferenceById(user.getUserId()))
+                .status(EnumOrderStatus.CREATED)
+                .totalPrice(totalPrice)
+                .build());
+
+        // 주문 시점 가격을 OrderItem에 남겨서 이후 상품 가격이 바뀌어도 주문 금액은 유지
+        orderItemRepository.saveAll(quantities.entrySet().stream()
+                .map(entry -> {
+                    Product product = products.get(entry.getKey());
+                    return OrderItem.builder()
+                            .order(order)
+                            .product(product)
+                            .price(product.getPrice())
+                            .quantity(entry.getValue())
+                            .stockApplied(!hotStockService.isHot(product.getId()))
+                            .build();
+                })
+                .collect(Collectors.toList()));
+
+        // hot 상품은 조회할 때 Redis 재고를 덮어쓰므로 주문마다 상세 캐시를 무효화하지 않음
+        quantities.keySet().stream()
+                .filter(productId -> !hotStockService.isHot(productId))
+                .forEach(productId -> eventPublisher.publishEvent(new ProductStockChangedEvent(productId)));
+        return toOrderResponse(order);
+    }
+
+    /**
+     * 내 주문 목록 조회 (최근 주문 순)
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderResponse> getMyOrders(PrincipalDetails user, EnumOrderStatus status, int page, int size) {
+        if (user == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "id"));
+        Page<Order> orders = status == null
+                ? orderRepository.findByUserId(user.getUserId(), pageable)
+                : orderRepository.findByUserIdAndStatus(user.getUserId(), status, pageable);
+
+        return orders.map(this::toOrderResponse);
+    }
+
+    /**
+     * 주문 상세 조회
+     * - USER는 본인 주문만, ADMIN은 모든 주문
+     * - 주문, 주문 항목, 상품명을 쿼리 한 번으로 조회 (주문 항목 수와 관계없이 같은 쿼리 수)
+     */
+    @Transactional(readOnly = true)
+    public OrderDetailResponse getOrder(Long id, PrincipalDetails user) {
+        List<OrderDetailRow> rows = orderRepository.findDetailRows(id);
+        if (rows.isEmpty()) {
+            throw new BusinessException(ErrorCode.ORDER_NOT_FOUND);
+        }
+
+        OrderDetailRow order = rows.get(0);
+        if (!SecurityUtil.isCurrentUserAdmin() && (user == null || !order.getUserId().equals(user.getUserId()))) {
+            throw new BusinessException(ErrorCode.ORDER_ACCESS_DENIED);
+        }
+
+        List<OrderItemResponse> items = rows.stream()
+                .filter(row -> row.getItemId() != null)
+                .map(row -> OrderItemResponse.builder()
+                        .id(row.getItemId())
+                        .productId(row.getProductId())
+                        .productName(row.getProductName())
+                        .price(row.getPrice())
+                        .quantity(row.getQuantity())
+                        .build())
+                .collect(Collectors.toList());
+
+        return OrderDetailResponse.builder()
+                .id(order.getOrderId())
+                .userId(order.getUserId())
+                .status(order.getStatus().name())
+                .totalPrice(order.getTotalPrice())
+                .items(items)
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 주문 결제 (CREATED -> PAID)
+     */
+    @Transactional
+    public OrderResponse payOrder(Long id, PrincipalDetails user) {
+        return transition(id, EnumOrderStatus.PAID, user);
+    }
+
+    /**
+     * 주문 취소 (CREATED -> CANCELLED)
+     * - 상태를 먼저 바꾼 뒤 재고 복구: 상태 변경은 한 번만 성공하므로 다시 요청해도 재고가 두 번 복구되지 않음
+     */
+    public OrderResponse cancelOrder(Long id, PrincipalDetails user) {
+        return retryExecutor.execute("order.cancel", () -> transactionTemplate.execute(status -> cancel(id, user)));
+    }
+
+    private OrderResponse cancel(Long id, PrincipalDetails user) {
+        OrderResponse order = transition(id, EnumOrderStatus.CANCELLED, user);
+
+        orderStockRestorer.restore(List.of(order.getId()));
+        return order;
+    }
+
+    /**
+     * 주문 완료 (PAID -> COMPLETED)
+     * - ADMIN만 가능, 상태 전이가 불가능한 주문은 권한과 관계없이 INVALID_ORDER_STATUS
+     */
+    @Transactional
+    public OrderResponse completeOrder(Long id) {
+        if (!SecurityUtil.isCurrentUserAdmin()) {
+            Order order = orderRepository.findById(id)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+            if (!order.getStatus().canTransitionTo(EnumOrderStatus.COMPLETED)) {
+                throw invalidTransition(EnumOrderStatus.COMPLETED);
+            }
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        return transition(id, EnumOrderStatus.COMPLETED, null);
+    }
+
+    /**
+     * 조건부 UPDATE 한 번으로 상태 변경 (USER는 본인 주문만, ADMIN은 모든 주문)
+     * - 먼저 조회하지 않고, 변경된 row가 없을 때만 주문을 조회해서 실패 원인을 구분
+     */
+    private OrderResponse transition(Long id, EnumOrderStatus next, PrincipalDetails user) {
+        Long ownerId = null;
+        if (!SecurityUtil.isCurrentUserAdmin()) {
+            if (user == null) {
+                throw new BusinessException(ErrorCode.ORDER_ACCESS_DENIED);
+            }
+            ownerId = user.getUserId();
+        }
+
+        Long requiredOwnerId = ownerId;
+        return orderRepository.transition(id, next, ownerId)
+                .orElseThrow(() -> transitionFailure(id, next, requiredOwnerId));
+    }
+
+    private BusinessException transitionFailure(Long id, EnumOrderStatus next, Long ownerId) {
+        Order order = orderRepository.findById(id).orElse(null);
+        if (order == null) {
+            return new BusinessException(ErrorCode.ORDER_NOT_FOUND);
+        }
+        if (ownerId != null && !order.getUser().getId().equals(ownerId)) {
+            return new BusinessException(ErrorCode.ORDER_ACCESS_DENIED);
+        }
+        return invalidTransition(next);
+    }
+
+    private static BusinessException invalidTransition(EnumOrderStatus next) {
+        String message = switch (next) {
+            case PAID -> "결제할 수 없는 주문 상태입니다.";
+            case CANCELLED -> "취소할 수 없는 주문 상태입니다.";
+            case COMPLETED -> "완료할 수 없는 주문 상태입니다.";
+            default -> ErrorCode.INVALID_ORDER_STATUS.getMessage();
+        };
+        return new BusinessException(ErrorCode.INVALID_ORDER_STATUS, message);
+    }
+
+    /**
+     * PESSIMISTIC은 id 순서대로 SELECT ... FOR UPDATE, 나머지는 일반 조회 (어느 쪽이든 쿼리 한 번)
+     */
+    private LongKeyMap<Product> findProducts(Collection<Long> productIds) {
+        List<Product> found = lockStrategy == EnumStockLockStrategy.PESSIMISTIC
+                ? productRepository.findAllByIdForUpdate(productIds)
+                : productRepository.findAllById(productIds);
+
+        LongKeyMap<Product> products = new LongKeyMap<>(found.size());
+        found.forEach(product -> products.put(product.getId(), product));
+        return products;
+    }
+
+    /**
+     * 상품 상태는 조회 결과로 이미 확인했으므로 여기서는 재고만 확인
+     * - ATOMIC: 조건부 UPDATE가 0건이면 그 사이 재고가 소진된 것
+     * - PESSIMISTIC: 조회할 때 잡은 row lock 아래에서 엔티티 재고 차감
+     * - OPTIMISTIC: 엔티티 재고 차감 후 flush 시점에 version이 달라져 있으면 충돌 (재시도 대상)
+     */
+    private void reserveStock(Product product, int quantity) {
+        if (product.getStock() < quantity) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        if (lockStrategy == EnumStockLockStrategy.ATOMIC) {
+            if (productRepository.decreaseStock(product.getId(), quantity) == 0) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+            }
+        } else {
+            product.decreaseStock(quantity);
+        }
+    }
+
+    private OrderResponse toOrderResponse(Order order) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .userId(order.getUser().getId())
+                .status(order.getStatus().name())
+                .totalPrice(order.getTotalPrice())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,69 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.order.entity.OrderItem;
+import com.codedrill.shoppingmall.order.repository.OrderItemRepository;
+import com.codedrill.shoppingmall.product.event.ProductStockChangedEvent;
+import com.codedrill.shoppingmall.product.hotstock.HotStockService;
+import com.codedrill.shoppingmall.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 취소된 주문의 재고 복구 (사용자 취소, 만료 취소 공통)
+ * - 호출하는 쪽 트랜잭션 안에서 실행되며, 주문 상태를 CANCELLED로 바꾼 트랜잭션에서만 호출해야 함 (중복 복구 방지)
+ * - 아직 products.stock에 반영되지 않은 항목(hot 상품)은 반영 대상에서 빼기만 하고, 나머지만 재고 복구
+ * - 재고 복구는 상품별 UPDATE를 상품 id 오름차순 JDBC batch 한 번으로 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStockRestorer {
+
+    private final OrderItemRepository orderItemRepository;
+
+    private final ProductRepository productRepository;
+
+    private final HotStockService hotStockService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void restore(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        List<OrderItem> items = orderItemRepository.findByOrderIdInForUpdate(orderIds);
+        List<Long> pendingItemIds = new ArrayList<>();
+        Map<Long, Integer> restoreQuantities = new TreeMap<>();
+        Map<Long, Integer> releaseQuantities = new TreeMap<>();
+        for (OrderItem item : items) {
+            Long productId = item.getProduct().getId();
+            if (item.isStockApplied()) {
+                restoreQuantities.merge(productId, item.getQuantity(), Integer::sum);
+            } else {
+                pendingItemIds.add(item.getId());
+            }
+            if (hotStockService.isHot(productId)) {
+                releaseQuantities.merge(productId, item.getQuantity(), Integer::sum);
+            }
+        }
+
+        if (!pendingItemIds.isEmpty()) {
+            orderItemRepository.markStockApplied(pendingItemIds);
+        }
+        productRepository.increaseStocks(restoreQuantities);
+        releaseQuantities.forEach(hotStockService::release);
+
+        items.stream()
+                .map(item -> item.getProduct().getId())
+                .distinct()
+                .filter(productId -> !hotStockService.isHot(productId))
+                .forEach(productId -> eventPublisher.publishEvent(new ProductStockChangedEvent(productId)));
+    }
+}
@@ -2,6 +2,9 @@ package com.codedrill.shoppingmall.product.controller;
 
 import com.codedrill.shoppingmall.common.consts.RestUriConst;
 import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.common.enums.EnumCountStrategy;
+import com.codedrill.shoppingmall.common.enums.EnumPaginationMode;
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
 import com.codedrill.shoppingmall.common.response.Response;
 import com.codedrill.shoppingmall.product.dto.*;
 import com.codedrill.shoppingmall.product.service.ProductService;
@@ -26,55 +29,66 @@ public class ProductController {
     @PostMapping
     @Operation(summary = "상품 등록")
     public Response<ProductResponse> createProduct(
-            @Valid @RequestBody ProductCreateRequest request
-
+            @Valid @RequestBody ProductCreateRequest request,
+            @AuthenticationPrincipal PrincipalDetails user
     ) {
-        //TODO: 상품 등록 구현
-
-        return Response.success();
+        return Response.success(productService.createProduct(request, user));
     }
 
     @GetMapping
     @Operation(summary = "상품 목록 조회")
-    public Response<ProductPageResponse> getProductList() {
-        //TODO: 상품 목록 조회 구현
-
-        return Response.success();
+    public Response<ProductPageResponse> getProductList(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) Long minPrice,
+            @RequestParam(required = false) Long maxPrice,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "LATEST") EnumProductSort sort,
+            @RequestParam(defaultValue = "OFFSET") EnumPaginationMode pagination,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) EnumCountStrategy count
+    ) {
+        ProductSearchRequest request = ProductSearchRequest.builder()
+                .page(page)
+                .size(size)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .name(name)
+                .sort(sort)
+                .pagination(pagination)
+                .cursor(cursor)
+                .count(count)
+                .build();
+        return Response.success(productService.getProductList(request));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "상품 단건 조회")
     public Response<ProductDetailResponse> getProduct(@PathVariable Long id) {
-        //TODO: 상품 단건 조회 구현
-
-        return Response.success();
+        return Response.success(productService.getProduct(id));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "상품 수정")
     public Response<ProductResponse> updateProduct(
             @PathVariable Long id,
-            @Valid @RequestBody ProductUpdateRequest request
+            @Valid @RequestBody ProductUpdateRequest request,
+            @AuthenticationPrincipal PrincipalDetails user
     ) {
-        //TODO: 상품 수정 구현
-
-        return Response.success();
+        return Response.success(productService.updateProduct(id, request, user));
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "상품 삭제 (Soft Delete)")
     public Response<Void> deleteProduct(@PathVariable Long id) {
-        //TODO: 상품 삭제 구현
-
+        productService.deleteProduct(id);
         return Response.success();
     }
 
     @PatchMapping("/{id}/approve")
     @Operation(summary = "상품 승인")
     public Response<ProductResponse> approveProduct(@PathVariable Long id) {
-        //TODO: 상품 승인 구현
-
-        return Response.success();
+        return Response.success(productService.approveProduct(id));
     }
 
     @PostMapping("/{id}/images")
@@ -0,0 +1,63 @@
+package com.codedrill.shoppingmall.product.dto;
+
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 위치 (마지막으로 반환한 상품의 정렬 key + id)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 전달해서 내부 형식을 노출하지 않음
+ * - LATEST: (createdAt, id), PRICE: (price, id)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final EnumProductSort sort;
+    private final LocalDateTime createdAt;
+    private final Long price;
+    private final Long id;
+
+    public static ProductCursor of(EnumProductSort sort, ProductSummary product) {
+        return sort == EnumProductSort.PRICE
+                ? new ProductCursor(sort, null, product.getPrice(), product.getId())
+                : new ProductCursor(sort, product.getCreatedAt(), null, product.getId());
+    }
+
+    public String encode() {
+        String value = sort == EnumProductSort.PRICE ? String.valueOf(price) : createdAt.toString();
+        String raw = String.join(DELIMITER, sort.name(), value, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 요청한 정렬과 다른 정렬로 만들어진 커서이거나 형식이 잘못되면 INVALID_CURSOR
+     */
+    public static ProductCursor decode(String cursor, EnumProductSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, 3);
+            if (parts.length != 3 || EnumProductSort.valueOf(parts[0]) != sort) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+
+            Long id = Long.parseLong(parts[2]);
+            return sort == EnumProductSort.PRICE
+                    ? new ProductCursor(sort, null, Long.parseLong(parts[1]), id)
+                    : new ProductCursor(sort, LocalDateTime.parse(parts[1]), null, id);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.codedrill.shoppingmall.product.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,11 +12,16 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProductPageResponse {
     private List<ProductSummary> content;
     private Long totalElements;
     private Integer totalPages;
+    // totalElements가 COUNT(*)로 방금 계산한 값인지 여부 (추정값이나 캐시된 값이면 false)
+    private Boolean totalExact;
     private Integer page;
     private Integer size;
+    // 커서 모드에서만 사용, 다음 페이지가 없으면 null
+    private String nextCursor;
 }
 
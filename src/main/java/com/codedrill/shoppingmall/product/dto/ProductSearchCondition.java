@@ -0,0 +1,19 @@
+package com.codedrill.shoppingmall.product.dto;
+
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * ProductRepository 검색 조건
+ * - approvedOnly가 true이면 APPROVED 상품만 조회 (ADMIN이 아닌 경우)
+ */
+@Getter
+@Builder
+public class ProductSearchCondition {
+    private final String name;
+    private final Long minPrice;
+    private final Long maxPrice;
+    private final boolean approvedOnly;
+    private final EnumProductSort sort;
+}
@@ -0,0 +1,25 @@
+package com.codedrill.shoppingmall.product.dto;
+
+import com.codedrill.shoppingmall.common.enums.EnumCountStrategy;
+import com.codedrill.shoppingmall.common.enums.EnumPaginationMode;
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchRequest {
+    private String name;
+    private Long minPrice;
+    private Long maxPrice;
+    private EnumProductSort sort;
+    private EnumPaginationMode pagination;
+    private String cursor;
+    private Integer page;
+    private Integer size;
+    private EnumCountStrategy count;
+}
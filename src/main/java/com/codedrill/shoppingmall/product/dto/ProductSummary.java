@@ -1,12 +1,16 @@
 package com.codedrill.shoppingmall.product.dto;
 
+import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductSummary {
@@ -15,5 +19,16 @@ public class ProductSummary {
     private Long price;
     private Integer stock;
     private String status;
-}
 
+    // 커서 생성용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime createdAt;
+
+    /**
+     * JPQL constructor expression용 (select new ...ProductSummary(p.id, p.name, p.price, p.stock, p.status, p.createdAt))
+     * - 엔티티를 만들지 않고 필요한 컬럼만 바로 DTO로 조회
+     */
+    public ProductSummary(Long id, String name, Long price, Integer stock, EnumProductStatus status, LocalDateTime createdAt) {
+        this(id, name, price, stock, status.name(), createdAt);
+    }
+}
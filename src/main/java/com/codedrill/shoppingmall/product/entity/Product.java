@@ -4,9 +4,15 @@ import com.codedrill.shoppingmall.common.entity.BaseEntity;
 import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "products")
+@Check(name = "ck_products_stock_non_negative", constraints = "stock >= 0")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -36,5 +42,28 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private Long userId;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    public void update(String name, Long price, Integer stock, String description) {
+        this.name = name;
+        this.price = price;
+        this.stock = stock;
+        this.description = description;
+    }
+
+    public void decreaseStock(int quantity) {
+        this.stock -= quantity;
+    }
+
+    public void approve() {
+        this.status = EnumProductStatus.APPROVED;
+    }
+
+    public boolean isApproved() {
+        return status == EnumProductStatus.APPROVED;
+    }
 }
 
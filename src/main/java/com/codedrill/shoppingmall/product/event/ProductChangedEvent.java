@@ -0,0 +1,14 @@
+package com.codedrill.shoppingmall.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 정보(상태, 가격, 재고 등)가 변경되었음을 알리는 이벤트
+ * - 트랜잭션 커밋 이후에 캐시 무효화 등 후속 처리를 하기 위해 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+    private final Long productId;
+}
@@ -0,0 +1,15 @@
+package com.codedrill.shoppingmall.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 생성/취소로 상품 재고만 변경되었음을 알리는 이벤트
+ * - 상품명/가격은 그대로이므로 검색 색인은 갱신하지 않고 상세 캐시만 무효화
+ * - hot 상품은 조회 시 Redis 재고를 덮어쓰므로 주문/취소 때는 발행하지 않고, HotStockReconciler가 DB에 반영할 때만 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductStockChangedEvent {
+    private final Long productId;
+}
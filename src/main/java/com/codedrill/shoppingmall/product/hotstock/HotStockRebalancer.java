@@ -0,0 +1,95 @@
+package com.codedrill.shoppingmall.product.hotstock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * hot 상품 재고 bucket 간 재고 이동
+ * - 주문은 임의의 bucket 하나에서 차감하므로 시간이 지나면 일부 bucket이 먼저 바닥나고, 그 bucket을 고른 주문은 다음 bucket까지 이어서 차감해야 함
+ * - 평균의 1/4 아래로 내려간 bucket에 가장 많이 남은 bucket의 재고를 나눠 줌
+ * - bucket마다 slot이 달라 한 스크립트로 옮길 수 없으므로, 먼저 덜어낸 뒤(epoch 반환) 같은 epoch로 채움
+ *   (받을 bucket이 reseed 중이면 원래 bucket에 되돌리고, 둘 다 epoch가 바뀌었으면 reseed 값에 이미 포함되어 있으므로 버림)
+ * - 덜어낸 뒤 채우기 전에 프로세스가 죽으면 그 수량은 다음 reseed까지 팔리지 않은 채로 남음 (초과 판매 방향으로는 틀어지지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotStockRebalancer {
+
+    private final HotStockService hotStockService;
+    private final HotStockRepository hotStockRepository;
+
+    @Scheduled(fixedDelayString = "${product.hot-stock.rebalance-interval:PT1S}")
+    public void rebalance() {
+        int buckets = hotStockService.getBuckets();
+        if (buckets == 1) {
+            return;
+        }
+
+        for (Long productId : hotStockService.getHotProductIds()) {
+            try {
+                rebalance(productId, buckets);
+            } catch (Exception e) {
+                log.warn("hot 상품 재고 bucket 재분배 실패. productId: {}", productId, e);
+            }
+        }
+    }
+
+    private void rebalance(Long productId, int buckets) {
+        List<Long> stocks = hotStockRepository.getAll(productId, buckets);
+        if (stocks.stream().anyMatch(Objects::isNull)) {
+            return;
+        }
+
+        long[] current = stocks.stream().mapToLong(Long::longValue).toArray();
+        long fairShare = Arrays.stream(current).sum() / buckets;
+        if (fairShare == 0) {
+            return;
+        }
+
+        for (int poor = 0; poor < buckets; poor++) {
+            if (current[poor] > fairShare / 4) {
+                continue;
+            }
+            int rich = richest(current);
+            long amount = Math.min(fairShare - current[poor], current[rich] - fairShare);
+            if (amount <= 0) {
+                return;
+            }
+            long moved = move(productId, rich, poor, amount);
+            current[rich] -= moved;
+            current[poor] += moved;
+        }
+    }
+
+    // 실제로 옮긴 수량
+    private long move(Long productId, int from, int to, long amount) {
+        HotStockRepository.Taken taken = hotStockRepository.take(productId, from, amount);
+        if (taken == null || taken.quantity() == 0) {
+            return 0;
+        }
+        if (hotStockRepository.release(productId, to, taken.quantity(), taken.epoch()) >= 0) {
+            return taken.quantity();
+        }
+        if (hotStockRepository.release(productId, from, taken.quantity(), taken.epoch()) < 0) {
+            log.debug("hot 상품 재고 카운터가 다시 채워져 재분배하지 않습니다. productId: {}", productId);
+        }
+        return 0;
+    }
+
+    private static int richest(long[] stocks) {
+        int richest = 0;
+        for (int bucket = 1; bucket < stocks.length; bucket++) {
+            if (stocks[bucket] > stocks[richest]) {
+                richest = bucket;
+            }
+        }
+        return richest;
+    }
+}
@@ -0,0 +1,18 @@
+package com.codedrill.shoppingmall.product.hotstock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 취소, 재고 수정으로 hot 상품 재고를 늘려야 함을 알리는 이벤트
+ * - 트랜잭션이 커밋된 뒤에만 Redis 재고를 늘림
+ * - epoch가 그 사이 바뀌었으면(reseed) DB 기준으로 이미 반영된 것이므로 되돌리지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class HotStockReleasedEvent {
+    private final Long productId;
+    private final int bucket;
+    private final int quantity;
+    private final long epoch;
+}
@@ -0,0 +1,167 @@
+package com.codedrill.shoppingmall.product.hotstock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 hot 상품 재고 카운터
+ * - 상품 재고를 여러 bucket으로 나눠 저장하고, bucket마다 hash tag({productId:bucket})가 달라 Cluster에서 slot이 나뉨
+ * - 스크립트는 모두 bucket 하나(재고 key + epoch key, 같은 slot)만 다루므로 주문끼리 서로 다른 bucket에서 동시에 처리됨
+ * - epoch는 bucket을 DB 기준 값으로 다시 채울(reseed) 때마다 바뀌며, 차감할 때 받은 epoch와 다르면 되돌리기(release)를 무시
+ *   (reseed 값에는 이미 DB 기준으로 반영되어 있으므로 이전 epoch에서 차감한 수량을 다시 더하면 초과 판매)
+ * - 만료 시간을 두지 않음 (카운터가 사라지면 다음 주문에서 DB 기준으로 reseed)
+ */
+@Repository
+@RequiredArgsConstructor
+public class HotStockRepository {
+
+    public static final long NOT_INITIALIZED = -2;
+
+    private static final String KEY_PREFIX = "stock:{";
+
+    // KEYS: 재고, epoch / ARGV: 최대 차감 수량
+    // {차감한 수량(bucket에 남은 만큼만), epoch}, bucket이 없으면 빈 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            local epoch = redis.call('GET', KEYS[2])
+            if not stock or not epoch then
+                return {}
+            end
+            local taken = math.min(tonumber(stock), tonumber(ARGV[1]))
+            if taken > 0 then
+                redis.call('DECRBY', KEYS[1], taken)
+            end
+            return {taken, tonumber(epoch)}
+            """, List.class);
+
+    // KEYS: 재고, epoch / ARGV: 수량, 차감할 때 받은 epoch
+    // epoch가 바뀌었거나(reseed) bucket이 없으면 되돌리지 않음
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[2] or redis.call('EXISTS', KEYS[1]) == 0 then
+                return -2
+            end
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    // KEYS: 재고, epoch / ARGV: 재고, epoch
+    private static final RedisScript<Long> RESEED_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1])
+            redis.call('SET', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * bucket에서 quantity까지 차감 (bucket에 남은 재고가 적으면 남은 만큼만 차감)
+     * - bucket이 없으면 null
+     */
+    public Taken take(Long productId, int bucket, long quantity) {
+        List<?> result = redisTemplate.execute(TAKE_SCRIPT, keys(productId, bucket), String.valueOf(quantity));
+        if (result == null || result.size() < 2) {
+            return null;
+        }
+        return new Taken(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue());
+    }
+
+    /**
+     * 차감한 수량을 bucket에 되돌림 (epoch가 바뀌었거나 bucket이 없으면 -2)
+     */
+    public long release(Long productId, int bucket, long quantity, long epoch) {
+        Long result = redisTemplate.execute(RELEASE_SCRIPT, keys(productId, bucket),
+                String.valueOf(quantity), String.valueOf(epoch));
+        return result == null ? NOT_INITIALIZED : result;
+    }
+
+    /**
+     * bucket 값을 모두 덮어쓰고 새 epoch를 반환
+     * - 먼저 bucket을 모두 지우고 하나씩 채우므로, 중간에 실패하면 빈 bucket이 남아 다음 주문에서 다시 reseed
+     * - 새 epoch는 Redis 서버 시각(microsecond)과 기존 epoch + 1 중 큰 값이라, 카운터가 통째로 사라진 뒤에도 이전 epoch와 겹치지 않음
+     * - 진행 중인 차감이 없을 때만 호출해야 함 (HotStockService에서 DB advisory lock으로 보장)
+     */
+    public long reseed(Long productId, List<Long> stocks) {
+        long epoch = serverTimeMicros();
+        for (int bucket = 0; bucket < stocks.size(); bucket++) {
+            Long current = getEpoch(productId, bucket);
+            if (current != null && current >= epoch) {
+                epoch = current + 1;
+            }
+        }
+
+        for (int bucket = 0; bucket < stocks.size(); bucket++) {
+            redisTemplate.delete(keys(productId, bucket));
+        }
+        for (int bucket = 0; bucket < stocks.size(); bucket++) {
+            redisTemplate.execute(RESEED_SCRIPT, keys(productId, bucket),
+                    String.valueOf(stocks.get(bucket)), String.valueOf(epoch));
+        }
+        return epoch;
+    }
+
+    /**
+     * bucket의 현재 epoch (bucket이 없으면 null)
+     */
+    public Long getEpoch(Long productId, int bucket) {
+        Object value = redisTemplate.opsForValue().get(epochKey(productId, bucket));
+        return value == null ? null : Long.valueOf(value.toString());
+    }
+
+    /**
+     * 모든 bucket의 재고와 epoch가 있는지 (하나라도 없으면 차감할 때 NOT_INITIALIZED)
+     */
+    public boolean isInitialized(Long productId, int buckets) {
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            Long count = redisTemplate.countExistingKeys(keys(productId, bucket));
+            if (count == null || count < 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * bucket별 재고 (없는 bucket은 null)
+     * - bucket마다 slot이 달라 MGET 대신 key별로 조회
+     */
+    public List<Long> getAll(Long productId, int buckets) {
+        List<Long> stocks = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            Object value = redisTemplate.opsForValue().get(key(productId, bucket));
+            stocks.add(value == null ? null : Long.valueOf(value.toString()));
+        }
+        return stocks;
+    }
+
+    private long serverTimeMicros() {
+        Long time = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time(TimeUnit.MICROSECONDS));
+        return time == null ? TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()) : time;
+    }
+
+    // 재고, epoch 순서 (같은 hash tag라 같은 slot)
+    private List<String> keys(Long productId, int bucket) {
+        return List.of(key(productId, bucket), epochKey(productId, bucket));
+    }
+
+    private String key(Long productId, int bucket) {
+        return KEY_PREFIX + productId + ":" + bucket + "}";
+    }
+
+    private String epochKey(Long productId, int bucket) {
+        return key(productId, bucket) + ":epoch";
+    }
+
+    /**
+     * bucket에서 차감한 수량과 그 시점의 epoch
+     */
+    public record Taken(long quantity, long epoch) {
+    }
+}
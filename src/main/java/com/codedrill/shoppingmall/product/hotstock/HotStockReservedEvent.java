@@ -0,0 +1,18 @@
+package com.codedrill.shoppingmall.product.hotstock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * hot 상품 재고를 Redis에서 차감했음을 알리는 이벤트
+ * - 주문 트랜잭션이 롤백되면 차감한 수량을 차감한 bucket에 되돌림
+ * - 차감한 epoch와 bucket의 현재 epoch가 다르면(reseed) 되돌리지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class HotStockReservedEvent {
+    private final Long productId;
+    private final int bucket;
+    private final int quantity;
+    private final long epoch;
+}
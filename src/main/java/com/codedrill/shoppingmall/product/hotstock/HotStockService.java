@@ -0,0 +1,255 @@
+package com.codedrill.shoppingmall.product.hotstock;
+
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import com.codedrill.shoppingmall.product.repository.ProductRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * hot 상품(설정으로 지정한 상품) 재고 관리
+ * - 주문 시 products row 대신 Redis 카운터에서 차감하고, 주문 항목은 stockApplied = false로 저장
+ * - 카운터는 bucket 여러 개로 나누고 주문마다 임의의 bucket 하나에서 차감 (부족하면 다음 bucket에서 이어서 차감)
+ * - products.stock 반영은 HotStockReconciler, bucket 간 재고 이동은 HotStockRebalancer가 처리
+ * - 전체 bucket 합계 = products.stock - 아직 반영되지 않은 주문 수량
+ * - 카운터가 없으면(최초 사용, Redis 데이터 유실) 진행 중인 트랜잭션이 모두 끝난 뒤 DB 기준 값으로 reseed
+ *   (카운터를 바꾸는 트랜잭션은 상품별 advisory lock을 shared로, reseed는 exclusive로 잡음)
+ */
+@Slf4j
+@Service
+public class HotStockService {
+
+    private final HotStockRepository hotStockRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate seedTransactionTemplate;
+    private final Set<Long> hotProductIds;
+    private final int buckets;
+
+    public HotStockService(HotStockRepository hotStockRepository,
+                           ProductRepository productRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${product.hot-stock.product-ids:}") Set<Long> hotProductIds,
+                           @Value("${product.hot-stock.buckets:8}") int buckets) {
+        this.hotStockRepository = hotStockRepository;
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.seedTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.seedTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.hotProductIds = Set.copyOf(hotProductIds);
+        this.buckets = Math.max(1, buckets);
+    }
+
+    public boolean isHot(Long productId) {
+        return hotProductIds.contains(productId);
+    }
+
+    public Set<Long> getHotProductIds() {
+        return hotProductIds;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Redis 카운터에서 재고 차감
+     * - 주문 트랜잭션 안에서 호출해야 하며, 트랜잭션이 롤백되면 차감한 수량을 되돌림
+     * - 카운터가 없으면 NotInitializedException (트랜잭션을 끝낸 뒤 seed하고 다시 실행)
+     */
+    public void reserve(Long productId, int quantity) {
+        productRepository.lockHotStockShared(productId);
+
+        reserveFromBuckets(productId, quantity);
+    }
+
+    /**
+     * 주문 취소로 재고 복구 (트랜잭션이 커밋된 뒤에 Redis에 반영)
+     * - 카운터가 없으면 다음 reseed에서 DB 기준으로 계산되므로 되돌리지 않음
+     */
+    public void release(Long productId, int quantity) {
+        productRepository.lockHotStockShared(productId);
+
+        int bucket = ThreadLocalRandom.current().nextInt(buckets);
+        Long epoch = hotStockRepository.getEpoch(productId, bucket);
+        if (epoch != null) {
+            eventPublisher.publishEvent(new HotStockReleasedEvent(productId, bucket, quantity, epoch));
+        }
+    }
+
+    /**
+     * 재고 수정: 판매 가능 재고가 targetAvailable이 되도록 Redis 카운터와 products.stock에 같은 차이만큼 반영
+     * - 호출하는 쪽 트랜잭션 안에서 실행 (카운터를 줄인 것은 롤백되면 되돌리고, 늘리는 것은 커밋된 뒤에 반영)
+     * - 현재 판매 가능 재고보다 줄일 수 없으면(그 사이 주문으로 소진) INSUFFICIENT_STOCK
+     * - 카운터가 없으면 products.stock만 바꿈
+     */
+    public void adjustStock(Long productId, int targetAvailable) {
+        productRepository.lockHotStockShared(productId);
+
+        long delta = adjustCounter(productId, targetAvailable);
+        if (delta != 0) {
+            productRepository.increaseStocks(Map.of(productId, Math.toIntExact(delta)));
+        }
+    }
+
+    /**
+     * 현재 판매 가능 재고 (상품 조회 응답용)
+     * - bucket 합계, 카운터가 없거나 Redis를 사용할 수 없으면 DB 기준(products.stock - 반영 대기 수량)으로 계산
+     */
+    public long getAvailableStock(Long productId) {
+        try {
+            List<Long> stocks = hotStockRepository.getAll(productId, buckets);
+            if (stocks.stream().allMatch(Objects::nonNull)) {
+                return stocks.stream().mapToLong(Long::longValue).sum();
+            }
+        } catch (DataAccessException e) {
+            log.warn("hot 상품 재고 카운터 조회 실패. DB 기준으로 계산합니다. productId: {}", productId, e);
+        }
+        Long available = productRepository.findAvailableStock(productId);
+        return available == null ? 0 : Math.max(0, available);
+    }
+
+    /**
+     * 카운터가 없는 hot 상품을 DB 기준 재고로 seed
+     * - 별도 트랜잭션에서 exclusive advisory lock을 잡으므로, 같은 상품의 shared lock을 잡은 트랜잭션 안에서 호출하면 안 됨
+     */
+    public void seed(Collection<Long> productIds) {
+        productIds.stream()
+                .filter(this::isHot)
+                .sorted()
+                .forEach(productId -> seedTransactionTemplate.executeWithoutResult(status -> seedIfAbsent(productId)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onReservationRolledBack(HotStockReservedEvent event) {
+        releaseNow(event.getProductId(), event.getBucket(), event.getQuantity(), event.getEpoch());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleased(HotStockReleasedEvent event) {
+        releaseNow(event.getProductId(), event.getBucket(), event.getQuantity(), event.getEpoch());
+    }
+
+    /**
+     * 임의의 bucket 하나에서 차감하고, 그 bucket에 남은 재고가 부족하면 다음 bucket에서 이어서 차감
+     * - bucket마다 차감한 수량을 이벤트로 남겨서 트랜잭션이 롤백되면(재고 부족 포함) 차감한 bucket에 되돌림
+     * - 전체 합계를 한 번에 확인하지 않으므로 다른 주문이 되돌리는 중이면 재고가 있어도 부족으로 판단할 수 있음 (초과 판매는 없음)
+     */
+    private void reserveFromBuckets(Long productId, long quantity) {
+        int start = ThreadLocalRandom.current().nextInt(buckets);
+        long remaining = quantity;
+        for (int i = 0; i < buckets && remaining > 0; i++) {
+            int bucket = (start + i) % buckets;
+            HotStockRepository.Taken taken = hotStockRepository.take(productId, bucket, remaining);
+            if (taken == null) {
+                throw new NotInitializedException(productId);
+            }
+            if (taken.quantity() > 0) {
+                remaining -= taken.quantity();
+                eventPublisher.publishEvent(new HotStockReservedEvent(productId, bucket,
+                        Math.toIntExact(taken.quantity()), taken.epoch()));
+            }
+        }
+        if (remaining > 0) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+    }
+
+    // 카운터에 반영한 차이(products.stock에도 같은 값을 반영)
+    private long adjustCounter(Long productId, int targetAvailable) {
+        List<Long> stocks = hotStockRepository.getAll(productId, buckets);
+        if (stocks.stream().allMatch(Objects::nonNull)) {
+            long delta = targetAvailable - stocks.stream().mapToLong(Long::longValue).sum();
+            try {
+                if (delta > 0) {
+                    int bucket = ThreadLocalRandom.current().nextInt(buckets);
+                    Long epoch = hotStockRepository.getEpoch(productId, bucket);
+                    if (epoch == null) {
+                        throw new NotInitializedException(productId);
+                    }
+                    eventPublisher.publishEvent(new HotStockReleasedEvent(productId, bucket, Math.toIntExact(delta), epoch));
+                } else if (delta < 0) {
+                    reserveFromBuckets(productId, -delta);
+                }
+                return delta;
+            } catch (NotInitializedException e) {
+                // 그 사이 bucket이 사라졌으면 다음 주문에서 DB 기준으로 reseed되므로 DB만 바꿈
+                log.debug("hot 상품 재고 카운터가 없어 DB 재고만 수정합니다. productId: {}", productId);
+            }
+        }
+
+        // 카운터가 없으면 reseed가 이 트랜잭션이 끝난 뒤의 DB 값으로 계산하므로 DB만 바꿈
+        Long available = productRepository.findAvailableStock(productId);
+        if (available == null) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return targetAvailable - available;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 모두 끝날 때까지 기다린 뒤(exclusive lock) DB 기준 재고를 bucket 수로 나눠서 reseed
+     * - 기다리는 사이 다른 노드가 이미 채웠으면 그대로 사용
+     */
+    private void seedIfAbsent(Long productId) {
+        productRepository.lockHotStockExclusive(productId);
+        if (hotStockRepository.isInitialized(productId, buckets)) {
+            return;
+        }
+
+        Long available = productRepository.findAvailableStock(productId);
+        if (available == null) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        long total = Math.max(0, available);
+        List<Long> stocks = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            stocks.add(total / buckets + (bucket < total % buckets ? 1 : 0));
+        }
+        long epoch = hotStockRepository.reseed(productId, stocks);
+        log.info("hot 상품 재고 카운터 초기화. productId: {}, stock: {}, buckets: {}, epoch: {}", productId, total, buckets, epoch);
+    }
+
+    // epoch가 바뀌었으면(reseed) 되돌리지 않음, Redis 장애로 되돌리지 못한 수량은 팔리지 않은 채로 남음 (초과 판매 방향으로는 틀어지지 않음)
+    private void releaseNow(Long productId, int bucket, long quantity, long epoch) {
+        try {
+            if (hotStockRepository.release(productId, bucket, quantity, epoch) < 0) {
+                log.debug("hot 상품 재고 카운터가 다시 채워져 복구하지 않습니다. productId: {}, quantity: {}", productId, quantity);
+            }
+        } catch (Exception e) {
+            log.warn("hot 상품 재고 복구 실패. productId: {}, quantity: {}", productId, quantity, e);
+        }
+    }
+
+    /**
+     * 카운터가 없어 차감하지 못함 (주문 트랜잭션을 롤백한 뒤 seed하고 다시 실행)
+     */
+    @Getter
+    public static class NotInitializedException extends RuntimeException {
+
+        private final Long productId;
+
+        NotInitializedException(Long productId) {
+            super("hot 상품 재고 카운터가 없습니다. productId: " + productId, null, false, false);
+            this.productId = productId;
+        }
+    }
+}
@@ -1,17 +1,64 @@
 package com.codedrill.shoppingmall.product.repository;
 
+import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
 import com.codedrill.shoppingmall.product.entity.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
-}
+    Optional<Product> findByIdAndDeletedAtIsNull(Long id);
+
+    boolean existsByUserIdAndStatusAndDeletedAtIsNull(Long userId, EnumProductStatus status);
+
+    /**
+     * id 오름차순으로 row lock (여러 주문이 같은 상품들을 잠가도 순서가 같아 deadlock이 생기지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id in :ids order by p.id")
+    List<Product> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 
+    /**
+     * 재고가 충분한 APPROVED 상품일 때만 재고 차감 (조건 확인과 차감을 UPDATE 한 문장으로 처리)
+     * - row lock은 UPDATE 실행 순간에만 잡히므로 SELECT ... FOR UPDATE처럼 주문 처리 전체를 직렬화하지 않음
+     * - 반환값이 0이면 재고 부족, 삭제, 미승인 중 하나
+     * - 재고를 바꾸는 UPDATE는 모두 version도 올려서 엔티티로 수정하는 쪽(@Version)과의 충돌을 감지
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stock = p.stock - :quantity, p.version = p.version + 1 "
+            + "where p.id = :id and p.stock >= :quantity "
+            + "and p.status = com.codedrill.shoppingmall.common.enums.EnumProductStatus.APPROVED and p.deletedAt is null")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 이미 판매가 확정된 수량을 그대로 반영 (hot 상품 재고 반영용, 상품 상태와 관계없이 적용)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stock = p.stock - :quantity, p.version = p.version + 1 where p.id = :id")
+    int subtractStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * products.stock에서 아직 반영되지 않은 hot 상품 주문 수량을 뺀 실제 판매 가능 재고
+     * - 재고와 미반영 수량을 한 문장에서 읽어서 반영 작업과 겹쳐도 같은 시점의 값으로 계산
+     * - product 쪽에서 order 코드를 참조하지 않도록 order_items는 native query로 읽음
+     */
+    @Query(value = """
+            select p.stock - coalesce((select sum(i.quantity) from order_items i
+                                       where i.product_id = p.id and i.stock_applied = false), 0)
+            from products p
+            where p.id = :productId
+            """, nativeQuery = true)
+    Long findAvailableStock(@Param("productId") Long productId);
+}
@@ -0,0 +1,57 @@
+package com.codedrill.shoppingmall.product.repository;
+
+import com.codedrill.shoppingmall.product.dto.ProductCursor;
+import com.codedrill.shoppingmall.product.dto.ProductSearchCondition;
+import com.codedrill.shoppingmall.product.dto.ProductSummary;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * offset 기반 검색
+     * - 전체 개수는 count/estimateCount로 따로 구함
+     */
+    List<ProductSummary> search(ProductSearchCondition condition, Pageable pageable);
+
+    long count(ProductSearchCondition condition);
+
+    /**
+     * id 목록에 해당하는 APPROVED + 삭제되지 않은 상품 (순서는 보장하지 않음)
+     */
+    List<ProductSummary> findApprovedSummaries(List<Long> ids);
+
+    /**
+     * 실행 계획(planner 통계)의 예상 row 수
+     * - PostgreSQL에서만 지원하고, 그 외 DB에서는 empty
+     */
+    OptionalLong estimateCount(ProductSearchCondition condition);
+
+    /**
+     * 커서 기반 검색
+     * - cursor 다음 위치부터 limit개를 조회하고 COUNT 쿼리는 실행하지 않음
+     * - cursor가 null이면 첫 페이지
+     */
+    List<ProductSummary> searchAfter(ProductSearchCondition condition, ProductCursor cursor, int limit);
+
+    /**
+     * 상품별 수량만큼 재고를 늘리는 UPDATE를 JDBC batch 한 번으로 실행
+     * - 상품 id 오름차순으로 실행해서 주문 생성과 같은 순서로 row lock을 잡음
+     */
+    void increaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * hot 상품 재고 카운터를 바꾸는 트랜잭션(주문, 취소, 재고 수정)이 잡는 트랜잭션 단위 advisory lock (shared)
+     * - 카운터 reseed는 exclusive로 잡으므로, reseed는 진행 중인 트랜잭션이 모두 끝난 뒤의 DB 값으로 계산됨
+     * - PostgreSQL에서만 잠그고, 그 외 DB에서는 아무것도 하지 않음
+     */
+    void lockHotStockShared(Long productId);
+
+    /**
+     * hot 상품 재고 카운터 reseed용 트랜잭션 단위 advisory lock (exclusive)
+     */
+    void lockHotStockExclusive(Long productId);
+}
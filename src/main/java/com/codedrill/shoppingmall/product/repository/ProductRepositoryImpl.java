@@ -0,0 +1,225 @@
+package com.codedrill.shoppingmall.product.repository;
+
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
+import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
+import com.codedrill.shoppingmall.product.dto.ProductCursor;
+import com.codedrill.shoppingmall.product.dto.ProductSearchCondition;
+import com.codedrill.shoppingmall.product.dto.ProductSummary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * 상품 검색 쿼리
+ * - 정렬은 항상 (정렬 key, id) 순서라서 같은 값이 여러 개여도 순서가 고정됨
+ * - (created_at, id), (price, id) 인덱스로 정렬과 커서 조건을 처리
+ * - 목록은 엔티티 대신 ProductSummary로 바로 조회 (description 등 불필요한 컬럼 제외, 영속성 컨텍스트에 올라가지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private static final String SELECT_SUMMARY = "select new com.codedrill.shoppingmall.product.dto.ProductSummary("
+            + "p.id, p.name, p.price, p.stock, p.status, p.createdAt) from Product p";
+
+    // advisory lock (class, object) 중 class 값 (object는 상품 id, int 범위를 넘으면 하위 32bit만 사용)
+    private static final int HOT_STOCK_LOCK_CLASS = 7_310_002;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public List<ProductSummary> search(ProductSearchCondition condition, Pageable pageable) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(condition, parameters);
+
+        TypedQuery<ProductSummary> query = entityManager.createQuery(
+                SELECT_SUMMARY + where + orderBy(condition.getSort()), ProductSummary.class);
+        parameters.forEach(query::setParameter);
+        return query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<ProductSummary> searchAfter(ProductSearchCondition condition, ProductCursor cursor, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder where = new StringBuilder(where(condition, parameters));
+
+        if (cursor != null) {
+            // (key, id) > (:key, :id) 를 인덱스 범위 조건(key >= :key)이 먼저 오도록 풀어서 작성
+            if (condition.getSort() == EnumProductSort.PRICE) {
+                where.append(" and p.price >= :cursorPrice and (p.price > :cursorPrice or p.id > :cursorId)");
+                parameters.put("cursorPrice", cursor.getPrice());
+            } else {
+                where.append(" and p.createdAt <= :cursorCreatedAt and (p.createdAt < :cursorCreatedAt or p.id < :cursorId)");
+                parameters.put("cursorCreatedAt", cursor.getCreatedAt());
+            }
+            parameters.put("cursorId", cursor.getId());
+        }
+
+        TypedQuery<ProductSummary> query = entityManager.createQuery(
+                SELECT_SUMMARY + where + orderBy(condition.getSort()), ProductSummary.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<ProductSummary> findApprovedSummaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                        SELECT_SUMMARY + " where p.id in :ids and p.status = :status and p.deletedAt is null", ProductSummary.class)
+                .setParameter("ids", ids)
+                .setParameter("status", EnumProductStatus.APPROVED)
+                .getResultList();
+    }
+
+    @Override
+    public long count(ProductSearchCondition condition) {
+        Map<String, Object> parameters = new HashMap<>();
+        TypedQuery<Long> query = entityManager.createQuery(
+                "select count(p) from Product p" + where(condition, parameters), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public OptionalLong estimateCount(ProductSearchCondition condition) {
+        if (!isPostgres()) {
+            return OptionalLong.empty();
+        }
+
+        List<Object> arguments = new ArrayList<>();
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM products p" + nativeWhere(condition, arguments);
+        try {
+            String plan = jdbcTemplate.queryForObject(sql, String.class, arguments.toArray());
+            JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return planRows.isNumber() ? OptionalLong.of(planRows.asLong()) : OptionalLong.empty();
+        } catch (Exception e) {
+            log.warn("상품 개수 추정 실패. 정확한 개수로 대체합니다.", e);
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        List<Object[]> arguments = new TreeMap<>(quantities).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        if (!arguments.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE products SET stock = stock + ?, version = version + 1 WHERE id = ?", arguments);
+        }
+    }
+
+    @Override
+    public void lockHotStockShared(Long productId) {
+        if (isPostgres()) {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock_shared(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                    HOT_STOCK_LOCK_CLASS, productId.intValue());
+        }
+    }
+
+    @Override
+    public void lockHotStockExclusive(Long productId) {
+        if (isPostgres()) {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                    HOT_STOCK_LOCK_CLASS, productId.intValue());
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String databaseName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(databaseName);
+            postgres = result;
+        }
+        return result;
+    }
+
+    private static String where(ProductSearchCondition condition, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder(" where p.deletedAt is null");
+
+        if (condition.isApprovedOnly()) {
+            where.append(" and p.status = :status");
+            parameters.put("status", EnumProductStatus.APPROVED);
+        }
+        if (condition.getMinPrice() != null) {
+            where.append(" and p.price >= :minPrice");
+            parameters.put("minPrice", condition.getMinPrice());
+        }
+        if (condition.getMaxPrice() != null) {
+            where.append(" and p.price <= :maxPrice");
+            parameters.put("maxPrice", condition.getMaxPrice());
+        }
+        if (StringUtils.hasText(condition.getName())) {
+            where.append(" and lower(p.name) like :name escape '\\'");
+            parameters.put("name", containsPattern(condition.getName()));
+        }
+        return where.toString();
+    }
+
+    // where()와 같은 조건의 SQL 버전 (EXPLAIN용)
+    private static String nativeWhere(ProductSearchCondition condition, List<Object> arguments) {
+        StringBuilder where = new StringBuilder(" WHERE p.deleted_at IS NULL");
+
+        if (condition.isApprovedOnly()) {
+            where.append(" AND p.status = ?");
+            arguments.add(EnumProductStatus.APPROVED.name());
+        }
+        if (condition.getMinPrice() != null) {
+            where.append(" AND p.price >= ?");
+            arguments.add(condition.getMinPrice());
+        }
+        if (condition.getMaxPrice() != null) {
+            where.append(" AND p.price <= ?");
+            arguments.add(condition.getMaxPrice());
+        }
+        if (StringUtils.hasText(condition.getName())) {
+            where.append(" AND lower(p.name) LIKE ? ESCAPE '\\'");
+            arguments.add(containsPattern(condition.getName()));
+        }
+        return where.toString();
+    }
+
+    /**
+     * 부분 일치 LIKE 패턴
+     * - 대소문자 구분 없이 검색하기 위해 lower()로 맞추고, 입력값의 %, _ 는 문자 그대로 검색되도록 escape
+     * - PostgreSQL에서는 lower(name) trigram GIN 인덱스(SchemaMigrationRunner)를 사용
+     */
+    private static String containsPattern(String keyword) {
+        String escaped = keyword.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static String orderBy(EnumProductSort sort) {
+        return sort == EnumProductSort.PRICE
+                ? " order by p.price asc, p.id asc"
+                : " order by p.createdAt desc, p.id desc";
+    }
+}
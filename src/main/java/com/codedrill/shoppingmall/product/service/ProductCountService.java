@@ -0,0 +1,98 @@
+package com.codedrill.shoppingmall.product.service;
+
+import com.codedrill.shoppingmall.common.enums.EnumCountStrategy;
+import com.codedrill.shoppingmall.product.dto.ProductSearchCondition;
+import com.codedrill.shoppingmall.product.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * 상품 목록의 전체 개수 계산
+ * - EXACT: 매번 COUNT(*)
+ * - ESTIMATED: PostgreSQL 실행 계획의 예상 row 수 (작은 결과나 추정 불가 시에는 COUNT(*))
+ * - CACHED: 정규화한 검색 조건별로 COUNT(*) 결과를 짧은 TTL 동안 재사용
+ * - 현재 페이지만으로 전체 개수를 알 수 있으면 전략과 관계없이 COUNT를 생략
+ */
+@Component
+public class ProductCountService {
+
+    private final ProductRepository productRepository;
+    private final EnumCountStrategy defaultStrategy;
+    private final long exactThreshold;
+    private final Cache<String, Long> countCache;
+
+    public ProductCountService(ProductRepository productRepository,
+                               @Value("${product.count.strategy:CACHED}") EnumCountStrategy defaultStrategy,
+                               @Value("${product.count.exact-threshold:1000}") long exactThreshold,
+                               @Value("${product.count.cache-ttl:PT30S}") Duration cacheTtl) {
+        this.productRepository = productRepository;
+        this.defaultStrategy = defaultStrategy;
+        this.exactThreshold = exactThreshold;
+        this.countCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    public Total count(ProductSearchCondition condition, EnumCountStrategy strategy, Pageable pageable, int contentSize) {
+        long offset = pageable.getOffset();
+
+        // 마지막 페이지(size보다 적게 조회)면 offset + 조회 개수가 전체 개수
+        if (contentSize < pageable.getPageSize() && (offset == 0 || contentSize > 0)) {
+            return new Total(offset + contentSize, true);
+        }
+
+        long minimum = offset + contentSize;
+        return switch (strategy != null ? strategy : defaultStrategy) {
+            case EXACT -> new Total(productRepository.count(condition), true);
+            case ESTIMATED -> estimate(condition, minimum);
+            case CACHED -> cached(condition, minimum);
+        };
+    }
+
+    private Total estimate(ProductSearchCondition condition, long minimum) {
+        OptionalLong estimated = productRepository.estimateCount(condition);
+        if (estimated.isEmpty() || estimated.getAsLong() < exactThreshold) {
+            return new Total(productRepository.count(condition), true);
+        }
+        return new Total(Math.max(estimated.getAsLong(), minimum), false);
+    }
+
+    private Total cached(ProductSearchCondition condition, long minimum) {
+        String key = cacheKey(condition);
+        Long cached = countCache.getIfPresent(key);
+        if (cached != null) {
+            return new Total(Math.max(cached, minimum), false);
+        }
+
+        long count = productRepository.count(condition);
+        countCache.put(key, count);
+        return new Total(count, true);
+    }
+
+    // 정렬은 개수에 영향이 없으므로 key에서 제외
+    private static String cacheKey(ProductSearchCondition condition) {
+        String name = StringUtils.hasText(condition.getName()) ? condition.getName().trim().toLowerCase() : "";
+        return String.join("|",
+                String.valueOf(condition.isApprovedOnly()),
+                name,
+                String.valueOf(condition.getMinPrice()),
+                String.valueOf(condition.getMaxPrice()));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Total {
+        private final long count;
+        private final boolean exact;
+    }
+}
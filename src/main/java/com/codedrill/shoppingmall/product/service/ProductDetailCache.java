@@ -0,0 +1,79 @@
+package com.codedrill.shoppingmall.product.service;
+
+import com.codedrill.shoppingmall.common.consts.CacheConst;
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.product.dto.ProductDetailResponse;
+import com.codedrill.shoppingmall.product.event.ProductChangedEvent;
+import com.codedrill.shoppingmall.product.event.ProductStockChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 캐시 (L1: Caffeine, L2: Redis)
+ * - ADMIN용(모든 상태)과 일반 사용자용(APPROVED만) 결과를 서로 다른 key에 저장해서 PENDING 상품이 섞이지 않도록 함
+ * - 같은 상품에 동시에 캐시 미스가 나도 DB 조회는 한 번만 실행 (single-flight)
+ * - 상품 변경은 ProductChangedEvent로 받아서 커밋 이후에 무효화 (커밋 전 값이 다시 캐시되는 것 방지)
+ * - 커밋 전에 예전 row를 읽은 조회가 무효화 뒤에 예전 값을 다시 넣을 수 있으므로 secondEvictDelay 뒤에 한 번 더 무효화
+ */
+@Component
+public class ProductDetailCache {
+
+    private static final String ADMIN_VIEW = "ADMIN";
+    private static final String PUBLIC_VIEW = "PUBLIC";
+
+    private final Cache cache;
+    private final TaskScheduler taskScheduler;
+    private final Duration secondEvictDelay;
+
+    public ProductDetailCache(CacheManager cacheManager,
+                              TaskScheduler taskScheduler,
+                              @Value("${cache.product-detail.second-evict-delay:PT1S}") Duration secondEvictDelay) {
+        this.cache = cacheManager.getCache(CacheConst.PRODUCT_DETAIL);
+        this.taskScheduler = taskScheduler;
+        this.secondEvictDelay = secondEvictDelay;
+    }
+
+    public ProductDetailResponse get(Long productId, boolean admin, Supplier<ProductDetailResponse> loader) {
+        try {
+            return cache.get(key(productId, admin), loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            // loader에서 던진 BusinessException은 그대로 전달 (결과는 캐시되지 않음)
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(Long productId) {
+        cache.evict(key(productId, true));
+        cache.evict(key(productId, false));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evictTwice(event.getProductId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductStockChanged(ProductStockChangedEvent event) {
+        evictTwice(event.getProductId());
+    }
+
+    private void evictTwice(Long productId) {
+        evict(productId);
+        taskScheduler.schedule(() -> evict(productId), Instant.now().plus(secondEvictDelay));
+    }
+
+    private static String key(Long productId, boolean admin) {
+        return productId + ":" + (admin ? ADMIN_VIEW : PUBLIC_VIEW);
+    }
+}
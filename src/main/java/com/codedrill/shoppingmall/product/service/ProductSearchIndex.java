@@ -0,0 +1,297 @@
+package com.codedrill.shoppingmall.product.service;
+
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
+import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
+import com.codedrill.shoppingmall.common.util.LongPostingList;
+import com.codedrill.shoppingmall.product.event.ProductChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * APPROVED + 삭제되지 않은 상품명의 메모리 역색인 (상품명 부분 검색용)
+ * - 상품명(lower)을 2글자 단위 n-gram으로 나눠 gram별 상품 id 목록(long[])을 저장
+ * - 검색어의 gram 목록을 작은 것부터 교집합 -> 가격 범위로 거르기 -> 실제 부분 문자열 포함 여부 확인
+ * - 시작 시 products 테이블을 스트리밍으로 읽어 만들고, 이후에는 ProductChangedEvent로 상품 단위 갱신
+ * - 비활성화, 구성 전, 검색어가 gram보다 짧은 경우에는 empty를 반환하고 호출한 쪽에서 SQL로 조회
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private static final String SELECT_PRODUCTS =
+            "SELECT id, name, price, created_at FROM products WHERE status = ? AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int fetchSize;
+
+    private volatile Index index;
+    // 재구성 중에 변경된 상품 id (재구성이 끝난 뒤 DB에서 다시 읽어 반영)
+    private volatile Set<Long> changedWhileRebuilding;
+    private final Object writeMutex = new Object();
+
+    public ProductSearchIndex(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${product.search-index.enabled:false}") boolean enabled,
+                              @Value("${product.search-index.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 검색어(name)를 포함하는 상품 id를 정렬 순서대로 offset부터 limit개 반환
+     */
+    public Optional<Result> search(String name, Long minPrice, Long maxPrice, EnumProductSort sort, long offset, int limit) {
+        Index current = index;
+        String keyword = StringUtils.hasText(name) ? normalize(name) : "";
+        if (current == null || keyword.length() < GRAM_SIZE) {
+            return Optional.empty();
+        }
+
+        List<IndexedProduct> matches = current.search(keyword,
+                minPrice != null ? minPrice : Long.MIN_VALUE,
+                maxPrice != null ? maxPrice : Long.MAX_VALUE);
+        matches.sort(sort == EnumProductSort.PRICE ? PRICE_ORDER : LATEST_ORDER);
+
+        int from = (int) Math.min(offset, matches.size());
+        int to = (int) Math.min(offset + limit, matches.size());
+        List<Long> ids = new ArrayList<>(to - from);
+        for (IndexedProduct product : matches.subList(from, to)) {
+            ids.add(product.id);
+        }
+        return Optional.of(new Result(ids, matches.size()));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+        try {
+            Index next = new Index();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+                streaming.setFetchSize(fetchSize);
+                streaming.query(SELECT_PRODUCTS, rs -> {
+                    next.put(toIndexedProduct(rs));
+                }, EnumProductStatus.APPROVED.name());
+            });
+
+            synchronized (writeMutex) {
+                index = next;
+                Set<Long> changed = changedWhileRebuilding;
+                changedWhileRebuilding = null;
+                changed.forEach(this::reload);
+            }
+            log.info("상품 검색 색인 구성 완료. 상품 수: {}, 소요 시간: {}ms", next.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            changedWhileRebuilding = null;
+            log.error("상품 검색 색인 구성 실패. SQL 검색을 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 커밋된 최신 상태를 DB에서 다시 읽어 반영 (APPROVED가 아니거나 삭제된 상품은 색인에서 제거)
+     * - 갱신은 writeMutex로 한 번에 하나씩 처리해서 오래된 값이 나중에 덮어쓰지 않도록 함
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (writeMutex) {
+            Set<Long> changed = changedWhileRebuilding;
+            if (changed != null) {
+                changed.add(event.getProductId());
+            }
+            if (index != null) {
+                reload(event.getProductId());
+            }
+        }
+    }
+
+    private void reload(Long productId) {
+        List<IndexedProduct> products = jdbcTemplate.query(SELECT_PRODUCTS + " AND id = ?",
+                (rs, rowNum) -> toIndexedProduct(rs), EnumProductStatus.APPROVED.name(), productId);
+
+        if (products.isEmpty()) {
+            index.remove(productId);
+        } else {
+            index.put(products.get(0));
+        }
+    }
+
+    private static IndexedProduct toIndexedProduct(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new IndexedProduct(
+                rs.getLong("id"),
+                normalize(rs.getString("name")),
+                rs.getLong("price"),
+                createdAt != null ? createdAt.getTime() : 0L);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static final Comparator<IndexedProduct> LATEST_ORDER = Comparator
+            .comparingLong((IndexedProduct product) -> product.createdAt).reversed()
+            .thenComparing(Comparator.comparingLong((IndexedProduct product) -> product.id).reversed());
+
+    private static final Comparator<IndexedProduct> PRICE_ORDER = Comparator
+            .comparingLong((IndexedProduct product) -> product.price)
+            .thenComparingLong(product -> product.id);
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final List<Long> productIds;
+        private final long total;
+    }
+
+    @RequiredArgsConstructor
+    private static class IndexedProduct {
+        private final long id;
+        private final String name;
+        private final long price;
+        private final long createdAt;
+    }
+
+    /**
+     * 읽기는 동시에, 쓰기는 하나씩 (쓰기는 상품 변경 시에만 발생)
+     */
+    private static class Index {
+
+        private final Map<String, LongPostingList> postings = new HashMap<>();
+        private final Map<Long, IndexedProduct> products = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return products.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void put(IndexedProduct product) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(product.id);
+                products.put(product.id, product);
+                for (String gram : grams(product.name)) {
+                    postings.computeIfAbsent(gram, key -> new LongPostingList()).add(product.id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long productId) {
+            lock.writeLock().lock();
+            try {
+                removeInternal(productId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<IndexedProduct> search(String keyword, long minPrice, long maxPrice) {
+            lock.readLock().lock();
+            try {
+                List<LongPostingList> lists = new ArrayList<>();
+                for (String gram : grams(keyword)) {
+                    LongPostingList list = postings.get(gram);
+                    if (list == null) {
+                        return new ArrayList<>();
+                    }
+                    lists.add(list);
+                }
+                lists.sort(Comparator.comparingInt(LongPostingList::size));
+
+                long[] candidates = lists.get(0).toArray();
+                int count = candidates.length;
+                for (int i = 1; i < lists.size() && count > 0; i++) {
+                    count = lists.get(i).intersect(candidates, count, candidates);
+                }
+
+                List<IndexedProduct> matches = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    IndexedProduct product = products.get(candidates[i]);
+                    // gram이 모두 있어도 순서가 다를 수 있으므로 가격 확인 후 실제 포함 여부 확인
+                    if (product != null && product.price >= minPrice && product.price <= maxPrice
+                            && product.name.contains(keyword)) {
+                        matches.add(product);
+                    }
+                }
+                return matches;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void removeInternal(long productId) {
+            IndexedProduct previous = products.remove(productId);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : grams(previous.name)) {
+                LongPostingList list = postings.get(gram);
+                if (list != null) {
+                    list.remove(productId);
+                    if (list.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+}
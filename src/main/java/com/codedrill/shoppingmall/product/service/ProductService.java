@@ -2,21 +2,31 @@ package com.codedrill.shoppingmall.product.service;
 
 import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
 import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.enums.EnumPaginationMode;
+import com.codedrill.shoppingmall.common.enums.EnumProductSort;
 import com.codedrill.shoppingmall.common.exception.ErrorCode;
 import com.codedrill.shoppingmall.common.util.SecurityUtil;
 import com.codedrill.shoppingmall.product.dto.*;
 import com.codedrill.shoppingmall.product.entity.Product;
 import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
+import com.codedrill.shoppingmall.product.event.ProductChangedEvent;
+import com.codedrill.shoppingmall.product.hotstock.HotStockService;
 import com.codedrill.shoppingmall.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,7 +34,264 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
 
-}
+    private final ProductCountService productCountService;
+
+    private final ProductSearchIndex productSearchIndex;
+
+    private final ProductDetailCache productDetailCache;
+
+    private final HotStockService hotStockService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 상품 등록
+     * - 등록 직후 상태는 PENDING
+     * - 일반 사용자는 PENDING 상품이 남아 있으면 새로 등록할 수 없음
+     */
+    @Transactional
+    public ProductResponse createProduct(ProductCreateRequest request, PrincipalDetails user) {
+        if (user == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        if (!SecurityUtil.isAdmin(user)
+                && productRepository.existsByUserIdAndStatusAndDeletedAtIsNull(user.getUserId(), EnumProductStatus.PENDING)) {
+            throw new BusinessException(ErrorCode.PRODUCT_PENDING_EXISTS);
+        }
+
+        Product product = productRepository.save(Product.builder()
+                .status(EnumProductStatus.PENDING)
+                .name(request.getName())
+                .price(request.getPrice())
+                .stock(request.getStock())
+                .description(request.getDescription())
+                .userId(user.getUserId())
+                .build());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+        return toProductResponse(product);
+    }
+
+    /**
+     * 상품 목록 조회
+     * - ADMIN은 모든 상태, 그 외(비로그인 포함)는 APPROVED 상품만 조회
+     * - OFFSET: page/size + 전체 개수(계산 방식은 ProductCountService), CURSOR: nextCursor만 반환하고 COUNT 쿼리 생략
+     */
+    @Transactional(readOnly = true)
+    public ProductPageResponse getProductList(ProductSearchRequest request) {
+        EnumProductSort sort = request.getSort() != null ? request.getSort() : EnumProductSort.LATEST;
+        int size = request.getSize() != null ? Math.min(Math.max(request.getSize(), 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+                .name(request.getName())
+                .minPrice(request.getMinPrice())
+                .maxPrice(request.getMaxPrice())
+                .approvedOnly(!SecurityUtil.isCurrentUserAdmin())
+                .sort(sort)
+                .build();
+
+        if (request.getPagination() == EnumPaginationMode.CURSOR || StringUtils.hasText(request.getCursor())) {
+            return getProductListByCursor(condition, request.getCursor(), size);
+        }
+
+        int page = request.getPage() != null ? Math.max(request.getPage(), 0) : 0;
+        Pageable pageable = PageRequest.of(page, size);
+
+        // 일반 사용자의 상품명 검색은 메모리 색인을 먼저 사용하고, 사용할 수 없으면 SQL로 조회
+        if (condition.isApprovedOnly() && StringUtils.hasText(condition.getName())) {
+            Optional<ProductSearchIndex.Result> indexed = productSearchIndex.search(condition.getName(),
+                    condition.getMinPrice(), condition.getMaxPrice(), sort, pageable.getOffset(), size);
+            if (indexed.isPresent()) {
+                return toIndexedPage(indexed.get(), page, size);
+            }
+        }
+
+        List<ProductSummary> products = productRepository.search(condition, pageable);
+        ProductCountService.Total total = productCountService.count(condition, request.getCount(), pageable, products.size());
+
+        return ProductPageResponse.builder()
+                .content(withAvailableStock(products))
+                .totalElements(total.getCount())
+                .totalPages((int) ((total.getCount() + size - 1) / size))
+                .totalExact(total.isExact())
+                .page(page)
+                .size(size)
+                .build();
+    }
+
+    /**
+     * 색인에서 찾은 id 순서대로 상품을 조회 (재고 등 최신 값은 DB 기준)
+     * - 색인 갱신 전에 삭제/승인 취소된 상품은 결과에서 제외
+     */
+    private ProductPageResponse toIndexedPage(ProductSearchIndex.Result result, int page, int size) {
+        Map<Long, ProductSummary> products = productRepository.findApprovedSummaries(result.getProductIds()).stream()
+                .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
+
+        List<ProductSummary> content = result.getProductIds().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return ProductPageResponse.builder()
+                .content(withAvailableStock(content))
+                .totalElements(result.getTotal())
+                .totalPages((int) ((result.getTotal() + size - 1) / size))
+                .totalExact(true)
+                .page(page)
+                .size(size)
+                .build();
+    }
 
+    /**
+     * size + 1개를 조회해서 다음 페이지 존재 여부를 판단
+     */
+    private ProductPageResponse getProductListByCursor(ProductSearchCondition condition, String cursor, int size) {
+        ProductCursor after = StringUtils.hasText(cursor) ? ProductCursor.decode(cursor, condition.getSort()) : null;
+        List<ProductSummary> products = productRepository.searchAfter(condition, after, size + 1);
+
+        boolean hasNext = products.size() > size;
+        List<ProductSummary> content = hasNext ? products.subList(0, size) : products;
+
+        return ProductPageResponse.builder()
+                .content(withAvailableStock(content))
+                .size(size)
+                .nextCursor(hasNext ? ProductCursor.of(condition.getSort(), content.get(size - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * 상품 단건 조회
+     * - ADMIN은 모든 상태, 그 외(비로그인 포함)는 APPROVED 상품만 조회 가능
+     * - 결과는 ProductDetailCache에 조회 범위(role)별로 캐시
+     * - hot 상품 재고는 캐시와 관계없이 조회할 때마다 Redis 카운터 기준으로 채움
+     */
+    public ProductDetailResponse getProduct(Long id) {
+        boolean admin = SecurityUtil.isCurrentUserAdmin();
+        ProductDetailResponse product = productDetailCache.get(id, admin, () -> loadProductDetail(id, admin));
+        return hotStockService.isHot(id) ? product.toBuilder().stock(availableStock(id)).build() : product;
+    }
+
+    /**
+     * 상품 수정
+     * - ADMIN은 모든 상품, USER는 본인이 등록한 상품만 수정 가능
+     * - hot 상품의 재고는 판매 가능 재고 기준이며, 현재 값과의 차이를 Redis 카운터와 products.stock에 함께 반영 (HotStockService)
+     */
+    @Transactional
+    public ProductResponse updateProduct(Long id, ProductUpdateRequest request, PrincipalDetails user) {
+        Product product = getActiveProduct(id);
+
+        if (!SecurityUtil.isCurrentUserAdmin() && (user == null || !product.getUserId().equals(user.getUserId()))) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        boolean hot = hotStockService.isHot(product.getId());
+        product.update(request.getName(), request.getPrice(), hot ? product.getStock() : request.getStock(),
+                request.getDescription());
+        productRepository.flush();
+        if (hot) {
+            hotStockService.adjustStock(product.getId(), request.getStock());
+        }
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+        return toProductResponse(product, hot ? request.getStock() : product.getStock());
+    }
+
+    /**
+     * 상품 삭제 (Soft Delete)
+     * - ADMIN 권한은 SecurityConfig에서 확인
+     */
+    @Transactional
+    public void deleteProduct(Long id) {
+        Product product = getActiveProduct(id);
+        product.softDelete();
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+    }
+
+    /**
+     * 상품 승인 (PENDING -> APPROVED)
+     */
+    @Transactional
+    public ProductResponse approveProduct(Long id) {
+        if (!SecurityUtil.isCurrentUserAdmin()) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        Product product = getActiveProduct(id);
+        if (product.getStatus() != EnumProductStatus.PENDING) {
+            throw new BusinessException(ErrorCode.INVALID_PRODUCT_STATUS);
+        }
+
+        product.approve();
+        productRepository.flush();
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+        return toProductResponse(product);
+    }
+
+    private ProductDetailResponse loadProductDetail(Long id, boolean admin) {
+        Product product = getActiveProduct(id);
+        if (!admin && !product.isApproved()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_APPROVED);
+        }
+        return toProductDetailResponse(product);
+    }
+
+    /**
+     * hot 상품은 products.stock에 아직 반영되지 않은 주문 수량이 있으므로 판매 가능 재고(Redis 카운터 기준)로 바꿈
+     */
+    private List<ProductSummary> withAvailableStock(List<ProductSummary> products) {
+        if (products.stream().noneMatch(product -> hotStockService.isHot(product.getId()))) {
+            return products;
+        }
+        return products.stream()
+                .map(product -> hotStockService.isHot(product.getId())
+                        ? product.toBuilder().stock(availableStock(product.getId())).build()
+                        : product)
+                .collect(Collectors.toList());
+    }
+
+    private int availableStock(Long productId) {
+        return (int) Math.min(Integer.MAX_VALUE, hotStockService.getAvailableStock(productId));
+    }
+
+    private Product getActiveProduct(Long id) {
+        return productRepository.findByIdAndDeletedAtIsNull(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+
+    private ProductResponse toProductResponse(Product product) {
+        return toProductResponse(product, product.getStock());
+    }
+
+    private ProductResponse toProductResponse(Product product, Integer stock) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .status(product.getStatus().name())
+                .name(product.getName())
+                .price(product.getPrice())
+                .stock(stock)
+                .description(product.getDescription())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+
+    private ProductDetailResponse toProductDetailResponse(Product product) {
+        return ProductDetailResponse.builder()
+                .id(product.getId())
+                .status(product.getStatus().name())
+                .name(product.getName())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .description(product.getDescription())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+}
@@ -1,15 +1,19 @@
 package com.codedrill.shoppingmall.user.controller;
 
+import com.codedrill.shoppingmall.common.config.JwtAuthenticationFilter;
 import com.codedrill.shoppingmall.common.consts.RestUriConst;
 import com.codedrill.shoppingmall.common.response.Response;
+import com.codedrill.shoppingmall.common.util.SecurityUtil;
 import com.codedrill.shoppingmall.user.dto.LoginRequest;
 import com.codedrill.shoppingmall.user.dto.LoginResponse;
+import com.codedrill.shoppingmall.user.dto.LogoutRequest;
 import com.codedrill.shoppingmall.user.dto.ReissueRequest;
 import com.codedrill.shoppingmall.user.dto.ReissueResponse;
 import com.codedrill.shoppingmall.user.dto.SignupRequest;
 import com.codedrill.shoppingmall.user.dto.UserResponse;
 import com.codedrill.shoppingmall.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,23 +30,37 @@ public class AuthController {
     @PostMapping("/signup")
     @Operation(summary = "회원 가입")
     public Response<UserResponse> signup(@Valid @RequestBody SignupRequest request) {
-        //TODO: 회원가입 구현
-
-        return Response.success();
+        return Response.success(userService.signup(request));
     }
 
     @PostMapping("/login")
     @Operation(summary = "로그인")
-    public Response<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        //TODO: 로그인 구현
-
-        return Response.success();
+    public Response<LoginResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // 프록시 뒤에서는 server.forward-headers-strategy=NATIVE로 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가
+        // 보낸 X-Forwarded-For의 클라이언트 IP가 remoteAddr가 됨
+        return Response.success(userService.login(request, httpRequest.getRemoteAddr()));
     }
 
-    @PostMapping("/reissue")
+    @PostMapping({"/reissue", "/refresh"})
     @Operation(summary = "토큰 재발급")
     public Response<ReissueResponse> reissue(@Valid @RequestBody ReissueRequest request) {
-        //TODO: 토큰 재발급 구현
+        return Response.success(userService.reissue(request));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃")
+    public Response<Void> logout(HttpServletRequest httpRequest, @RequestBody(required = false) LogoutRequest request) {
+        userService.logout(JwtAuthenticationFilter.extractTokenFromRequest(httpRequest),
+                SecurityUtil.currentParsedToken(), request);
+
+        return Response.success();
+    }
+
+    @PostMapping("/logout-all")
+    @Operation(summary = "모든 기기에서 로그아웃")
+    public Response<Void> logoutAll(HttpServletRequest httpRequest) {
+        userService.logoutAll(JwtAuthenticationFilter.extractTokenFromRequest(httpRequest),
+                SecurityUtil.currentParsedToken());
 
         return Response.success();
     }
@@ -1,12 +1,14 @@
 package com.codedrill.shoppingmall.user.controller;
 
 import com.codedrill.shoppingmall.common.consts.RestUriConst;
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
 import com.codedrill.shoppingmall.common.response.Response;
 import com.codedrill.shoppingmall.user.dto.UserResponse;
 import com.codedrill.shoppingmall.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,10 +23,8 @@ public class UserController {
 
     @GetMapping
     @Operation(summary = "자신의 정보 받아오기")
-    public Response<UserResponse> getMyInfo() {
-        //TODO: 자기 자신의 정보 받아오기 구현
-
-        return Response.success();
+    public Response<UserResponse> getMyInfo(@AuthenticationPrincipal PrincipalDetails user) {
+        return Response.success(userService.getMyInfo(user));
     }
 }
 
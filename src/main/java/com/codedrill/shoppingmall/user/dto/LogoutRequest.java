@@ -0,0 +1,11 @@
+package com.codedrill.shoppingmall.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LogoutRequest {
+
+    private String refreshToken;
+}
@@ -11,5 +11,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ReissueResponse {
     private String accessToken;
+    private String refreshToken;
 }
 
@@ -0,0 +1,97 @@
+package com.codedrill.shoppingmall.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Redis 기반 RefreshToken 저장소
+ * - 로그인 한 번이 하나의 family(세션)가 되고, family에는 현재 유효한 jti 하나만 저장
+ * - 모든 연산은 Lua 스크립트 한 번(Redis 왕복 1회)으로 처리
+ * - 사용자별 generation 값을 올리면 해당 사용자의 모든 family가 한 번에 무효화됨 (O(1))
+ * - 같은 사용자의 key는 {userId} hash tag로 묶어서 Redis Cluster에서도 같은 slot에 위치
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+
+    private static final String KEY_PREFIX = "refresh:{";
+
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local gen = redis.call('GET', KEYS[2]) or '0'
+            redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'jti', ARGV[2], 'gen', gen)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 1: 재발급 성공, 0: 이미 사용된 토큰 재사용(family 폐기), -1: 없거나 폐기된 family
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local family = redis.call('HMGET', KEYS[1], 'userId', 'jti', 'gen')
+            if not family[1] or family[1] ~= ARGV[1] then
+                return -1
+            end
+            local gen = redis.call('GET', KEYS[2]) or '0'
+            if family[3] ~= gen then
+                redis.call('DEL', KEYS[1])
+                return -1
+            end
+            if family[2] ~= ARGV[2] then
+                redis.call('DEL', KEYS[1])
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'jti', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void save(Long userId, String familyId, String tokenId, long ttlMs) {
+        redisTemplate.execute(ISSUE_SCRIPT, List.of(familyKey(userId, familyId), generationKey(userId)),
+                String.valueOf(userId), tokenId, String.valueOf(ttlMs));
+    }
+
+    /**
+     * 현재 jti가 presentedTokenId와 같을 때만 newTokenId로 교체 (일회성 사용)
+     * - 이미 교체된 jti가 다시 들어오면 탈취로 보고 family 전체를 폐기
+     */
+    public RotationResult rotate(Long userId, String familyId, String presentedTokenId, String newTokenId, long ttlMs) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(familyKey(userId, familyId), generationKey(userId)),
+                String.valueOf(userId), presentedTokenId, newTokenId, String.valueOf(ttlMs));
+
+        if (result == null || result < 0) {
+            return RotationResult.INVALID;
+        }
+        return result == 1 ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    public void deleteFamily(Long userId, String familyId) {
+        redisTemplate.delete(familyKey(userId, familyId));
+    }
+
+    /**
+     * 사용자의 모든 세션 폐기
+     * - family를 하나씩 지우지 않고 generation만 올려서 기존 family를 모두 무효화
+     */
+    public void revokeAll(Long userId) {
+        redisTemplate.opsForValue().increment(generationKey(userId));
+    }
+
+    private String familyKey(Long userId, String familyId) {
+        return KEY_PREFIX + userId + "}:family:" + familyId;
+    }
+
+    private String generationKey(Long userId) {
+        return KEY_PREFIX + userId + "}:gen";
+    }
+
+    public enum RotationResult {
+        ROTATED,
+        REUSED,
+        INVALID
+    }
+}
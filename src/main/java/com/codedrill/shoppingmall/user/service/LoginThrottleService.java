@@ -0,0 +1,156 @@
+package com.codedrill.shoppingmall.user.service;
+
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 로그인 시도 제한
+ * - 1차: 노드 로컬 token bucket으로 짧은 폭주를 Redis까지 가기 전에 차단
+ * - 2차: Redis sliding window(sorted set)로 이메일별/IP별 시도 횟수를 전체 노드 기준으로 제한
+ * - 이메일 key와 IP key는 서로 다른 slot일 수 있으므로(Redis Cluster) key마다 Lua 스크립트를 따로 실행
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private static final String EMAIL_KEY_PREFIX = "login:attempts:email:";
+    private static final String IP_KEY_PREFIX = "login:attempts:ip:";
+
+    // 1: 허용(시도 기록), 0: 차단
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], now, ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], window)
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration window;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final int localBurst;
+    private final double localRefillPerSecond;
+
+    private final Cache<String, TokenBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public LoginThrottleService(RedisTemplate<String, Object> redisTemplate,
+                                @Value("${security.login.window:PT5M}") Duration window,
+                                @Value("${security.login.max-attempts-per-email:5}") int maxAttemptsPerEmail,
+                                @Value("${security.login.max-attempts-per-ip:50}") int maxAttemptsPerIp,
+                                @Value("${security.login.local-burst:10}") int localBurst,
+                                @Value("${security.login.local-refill-per-second:1}") double localRefillPerSecond) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.localBurst = localBurst;
+        this.localRefillPerSecond = localRefillPerSecond;
+    }
+
+    /**
+     * 로그인 시도 1회를 기록하고, 제한을 넘었으면 TOO_MANY_LOGIN_ATTEMPTS
+     * - 비밀번호 검증(BCrypt)보다 먼저 호출해야 함
+     */
+    public void acquire(String email, String clientIp) {
+        String emailKey = EMAIL_KEY_PREFIX + normalize(email);
+        String ipKey = IP_KEY_PREFIX + clientIp;
+
+        if (!tryConsumeLocal(emailKey) || !tryConsumeLocal(ipKey)) {
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+
+        String attemptId = UUID.randomUUID().toString();
+        boolean allowed;
+        try {
+            allowed = tryRecord(emailKey, maxAttemptsPerEmail, attemptId);
+            if (allowed && !tryRecord(ipKey, maxAttemptsPerIp, attemptId)) {
+                // IP 제한에 걸린 시도는 이메일 시도 횟수에서 다시 제외
+                redisTemplate.opsForZSet().remove(emailKey, attemptId);
+                allowed = false;
+            }
+        } catch (DataAccessException e) {
+            // Redis 장애 시에는 로컬 token bucket만으로 제한
+            log.warn("로그인 시도 횟수 확인 실패. 로컬 제한만 적용합니다.", e);
+            return;
+        }
+
+        if (!allowed) {
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 해당 이메일의 시도 기록 초기화
+     * - Redis 장애 시에는 초기화하지 않고 window가 지나면 자연히 풀림 (로그인 자체는 실패시키지 않음)
+     */
+    public void reset(String email) {
+        try {
+            redisTemplate.delete(EMAIL_KEY_PREFIX + normalize(email));
+        } catch (DataAccessException e) {
+            log.warn("로그인 시도 기록 초기화 실패.", e);
+        }
+    }
+
+    private boolean tryRecord(String key, int maxAttempts, String attemptId) {
+        Long allowed = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(key),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(window.toMillis()),
+                String.valueOf(maxAttempts), attemptId);
+        return allowed != null && allowed == 1;
+    }
+
+    private boolean tryConsumeLocal(String key) {
+        return localBuckets.get(key, k -> new TokenBucket(localBurst, localRefillPerSecond)).tryConsume();
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class TokenBucket {
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefillAt;
+
+        TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1_000_000_000d;
+            this.tokens = capacity;
+            this.lastRefillAt = System.nanoTime();
+        }
+
+        synchronized boolean tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillAt) * refillPerNano);
+            lastRefillAt = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.codedrill.shoppingmall.user.service;
+
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증 전용 서비스
+ * - BCrypt 작업은 코어 수만큼의 전용 스레드에서만 실행해서 로그인 폭주 시에도 CPU 사용량을 제한
+ * - 대기 큐가 가득 차거나 대기 시간이 길어지면 바로 SERVER_BUSY로 거절 (backpressure)
+ * - 대기 시간이 초과된 작업은 큐에 있으면 실행되지 않지만, 이미 실행 중이면 BCrypt를 멈출 수 없어 끝까지 실행됨
+ *   (그동안 스레드를 계속 차지하므로 동시에 실행되는 해시는 여전히 코어 수를 넘지 않고, 그만큼 새 요청이 큐에서 기다림)
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    // 없는 계정으로 로그인할 때 검증할 해시 (현재 cost로 만들어서 실제 검증과 시간이 같음)
+    private final String dummyHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${security.password.hash-queue-capacity:100}") int queueCapacity,
+                                  @Value("${security.password.hash-timeout:PT3S}") Duration timeout) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(processors, processors, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "PasswordHash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 결과를 쓰지 않는 검증 (계정이 없을 때도 있을 때와 같은 시간이 걸리게 함)
+     */
+    public void matchesDummy(String rawPassword) {
+        submit(() -> passwordEncoder.matches(rawPassword, dummyHash));
+    }
+
+    /**
+     * 현재 설정된 cost보다 낮은 cost로 저장된 해시인지 확인
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Supplier<T> task) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 대기열이 가득 찼습니다. 요청을 거절합니다.");
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 큐에서 기다리던 작업은 실행되지 않고, 이미 실행 중인 해시는 끝날 때까지 스레드를 차지함
+            future.cancel(false);
+            log.warn("비밀번호 해시 대기 시간 초과. timeout: {}ms", timeout.toMillis());
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 처리 중 오류 발생", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,93 @@
+package com.codedrill.shoppingmall.user.service;
+
+import com.codedrill.shoppingmall.user.dto.UserResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 프로필 캐시 (L1: Caffeine, L2: Redis)
+ * - JWT에 없는 값(createdAt, updatedAt)을 DB 대신 제공하기 위한 용도
+ * - UserService에서 변경 시 put/evict로 바로 반영 (write-through)
+ * - 다른 노드의 L1은 짧은 TTL로 맞춰짐
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    private static final String KEY_PREFIX = "user:profile:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, UserResponse> localCache;
+
+    public UserProfileCache(RedisTemplate<String, Object> redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${user.profile-cache.local-ttl:PT1M}") Duration localTtl,
+                            @Value("${user.profile-cache.redis-ttl:PT1H}") Duration redisTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    public Optional<UserResponse> get(Long userId) {
+        UserResponse cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Object json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (json == null) {
+                return Optional.empty();
+            }
+            UserResponse userResponse = objectMapper.readValue((String) json, UserResponse.class);
+            localCache.put(userId, userResponse);
+            return Optional.of(userResponse);
+        } catch (Exception e) {
+            log.warn("사용자 프로필 캐시 조회 실패. userId: {}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Redis 장애 시에는 L1에만 저장 (호출한 쪽의 DB 변경은 이미 끝났으므로 실패로 처리하지 않음)
+     */
+    public void put(UserResponse userResponse) {
+        localCache.put(userResponse.getId(), userResponse);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userResponse.getId(),
+                    objectMapper.writeValueAsString(userResponse), redisTtl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } catch (DataAccessException e) {
+            log.warn("사용자 프로필 캐시 저장 실패. userId: {}", userResponse.getId(), e);
+        }
+    }
+
+    /**
+     * Redis 장애로 지우지 못한 값은 redisTtl이 지나면 만료
+     */
+    public void evict(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("사용자 프로필 캐시 삭제 실패. userId: {}", userId, e);
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package com.codedrill.shoppingmall.user.service;
 
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
 import com.codedrill.shoppingmall.common.enums.EnumRole;
 import com.codedrill.shoppingmall.common.exception.BusinessException;
 import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import com.codedrill.shoppingmall.common.util.AccessTokenDenylist;
 import com.codedrill.shoppingmall.common.util.JwtUtil;
+import com.codedrill.shoppingmall.common.util.ParsedToken;
+import com.codedrill.shoppingmall.common.util.VerifiedTokenCache;
 import com.codedrill.shoppingmall.user.dto.LoginRequest;
 import com.codedrill.shoppingmall.user.dto.LoginResponse;
+import com.codedrill.shoppingmall.user.dto.LogoutRequest;
+import com.codedrill.shoppingmall.user.dto.ReissueRequest;
+import com.codedrill.shoppingmall.user.dto.ReissueResponse;
 import com.codedrill.shoppingmall.user.dto.SignupRequest;
 import com.codedrill.shoppingmall.user.dto.UserResponse;
 import com.codedrill.shoppingmall.user.entity.User;
+import com.codedrill.shoppingmall.user.repository.RefreshTokenRepository;
+import com.codedrill.shoppingmall.user.repository.RefreshTokenRepository.RotationResult;
 import com.codedrill.shoppingmall.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.Objects;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -24,7 +40,194 @@ public class UserService {
 
     private final UserRepository userRepository;
 
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final PasswordHashingService passwordHashingService;
+
+    private final LoginThrottleService loginThrottleService;
+
+    private final UserProfileCache userProfileCache;
+
     private final JwtUtil jwtUtil;
 
-}
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final AccessTokenDenylist accessTokenDenylist;
+
+    /**
+     * 회원 가입
+     * - 해시 계산 중에는 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 해시
+     */
+    public UserResponse signup(SignupRequest request) {
+        if (userRepository.existsByEmail(request.getEmail())) {
+            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        }
+
+        User user = User.builder()
+                .email(request.getEmail())
+                .password(passwordHashingService.encode(request.getPassword()))
+                .name(request.getName())
+                .role(EnumRole.USER)
+                .build();
+
+        UserResponse userResponse;
+        try {
+            userResponse = toUserResponse(userRepository.save(user));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 이메일로 가입한 경우 unique 제약 조건에서 걸림
+            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        }
+
+        userProfileCache.put(userResponse);
+        return userResponse;
+    }
+
+    /**
+     * 내 정보 조회
+     * - id, email, name, role은 JWT에서 꺼낸 PrincipalDetails 값을 그대로 사용
+     * - createdAt, updatedAt만 프로필 캐시에서 가져오고, 캐시에 없을 때만 DB 조회
+     */
+    public UserResponse getMyInfo(PrincipalDetails principal) {
+        if (principal == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        UserResponse profile = userProfileCache.get(principal.getUserId())
+                .orElseGet(() -> loadProfile(principal.getUserId()));
+
+        return UserResponse.builder()
+                .id(principal.getUserId())
+                .email(principal.getEmail())
+                .name(principal.getUsername())
+                .role(roleOf(principal))
+                .createdAt(profile.getCreatedAt())
+                .updatedAt(profile.getUpdatedAt())
+                .build();
+    }
+
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        // 제한을 넘은 요청은 DB 조회와 BCrypt 검증 전에 거절
+        loginThrottleService.acquire(request.getEmail(), clientIp);
+
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            // 없는 이메일도 같은 시간이 걸리도록 BCrypt 검증을 한 번 수행 (응답 시간으로 가입 여부를 알 수 없게)
+            passwordHashingService.matchesDummy(request.getPassword());
+            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
+        }
+
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
+        }
 
+        // 예전 cost로 저장된 해시는 로그인에 성공한 시점(평문을 알고 있을 때)에 현재 cost로 다시 저장
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), passwordHashingService.encode(request.getPassword()));
+            userProfileCache.evict(user.getId());
+        }
+        loginThrottleService.reset(request.getEmail());
+
+        // 로그인마다 새로운 family(세션) 생성
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(user.getId(), familyId, tokenId, JwtUtil.RF_EXPIRATION_IN_MS);
+
+        return LoginResponse.builder()
+                .accessToken(generateAccessToken(user))
+                .refreshToken(jwtUtil.generateRefreshToken(user.getId(), familyId, tokenId))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ReissueResponse reissue(ReissueRequest request) {
+        Claims claims = jwtUtil.parseRefreshToken(request.getRefreshToken());
+        Long userId = Long.parseLong(claims.getSubject());
+        String familyId = claims.get(JwtUtil.CLAIM_FAMILY_ID, String.class);
+        String newTokenId = UUID.randomUUID().toString();
+
+        RotationResult result = refreshTokenRepository.rotate(
+                userId, familyId, claims.getId(), newTokenId, JwtUtil.RF_EXPIRATION_IN_MS);
+        if (result == RotationResult.REUSED) {
+            log.warn("이미 사용된 Refresh Token 재사용 감지. 세션을 폐기합니다. userId: {}, familyId: {}", userId, familyId);
+        }
+        if (result != RotationResult.ROTATED) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        return ReissueResponse.builder()
+                .accessToken(generateAccessToken(user))
+                .refreshToken(jwtUtil.generateRefreshToken(userId, familyId, newTokenId))
+                .build();
+    }
+
+    /**
+     * 로그아웃
+     * - 현재 AccessToken은 만료 전까지 폐기 목록에 등록하고 검증 캐시에서도 제거
+     * - RefreshToken이 함께 오면 해당 세션(family)도 폐기
+     */
+    public void logout(String accessToken, ParsedToken parsedToken, LogoutRequest request) {
+        if (parsedToken == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        accessTokenDenylist.revoke(parsedToken.getTokenId(), parsedToken.getExpiration().getTime());
+        verifiedTokenCache.evict(accessToken);
+
+        if (request != null && StringUtils.hasText(request.getRefreshToken())) {
+            Claims claims = jwtUtil.parseRefreshToken(request.getRefreshToken());
+            if (parsedToken.getUserId().equals(Long.parseLong(claims.getSubject()))) {
+                refreshTokenRepository.deleteFamily(parsedToken.getUserId(), claims.get(JwtUtil.CLAIM_FAMILY_ID, String.class));
+            }
+        }
+    }
+
+    /**
+     * 모든 기기에서 로그아웃
+     * - 현재 AccessToken은 폐기 목록에 등록하고, 사용자의 모든 세션(family)은 generation을 올려서 한 번에 폐기
+     * - 다른 기기의 AccessToken은 만료될 때까지 유효하지만 더 이상 재발급받을 수 없음
+     */
+    public void logoutAll(String accessToken, ParsedToken parsedToken) {
+        if (parsedToken == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        accessTokenDenylist.revoke(parsedToken.getTokenId(), parsedToken.getExpiration().getTime());
+        verifiedTokenCache.evict(accessToken);
+        refreshTokenRepository.revokeAll(parsedToken.getUserId());
+    }
+
+    private UserResponse loadProfile(Long userId) {
+        UserResponse userResponse = userRepository.findById(userId)
+                .map(this::toUserResponse)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
+        userProfileCache.put(userResponse);
+        return userResponse;
+    }
+
+    private static String roleOf(PrincipalDetails principal) {
+        return principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(Objects::nonNull)
+                .map(authority -> authority.startsWith("ROLE_") ? authority.substring("ROLE_".length()) : authority)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private UserResponse toUserResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .role(user.getRole().name())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+
+    private String generateAccessToken(User user) {
+        return jwtUtil.generateAccessToken(user.getId(), user.getEmail(), user.getName(), user.getRole().name());
+    }
+}
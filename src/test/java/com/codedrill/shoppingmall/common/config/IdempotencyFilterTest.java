@@ -0,0 +1,281 @@
+package com.codedrill.shoppingmall.common.config;
+
+import com.codedrill.shoppingmall.common.consts.RestUriConst;
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.common.exception.IdempotencyKeyInUseException;
+import com.codedrill.shoppingmall.common.exception.IdempotencyKeyMismatchException;
+import com.codedrill.shoppingmall.common.util.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.ModelAndView;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+class IdempotencyFilterTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String BODY = "{\"items\":[{\"productId\":1,\"quantity\":1}]}";
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private ThreadPoolTaskScheduler taskScheduler;
+    private IdempotencyFilter idempotencyFilter;
+    private final List<Exception> resolvedExceptions = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        connectionFactory.getConnection().serverCommands().flushAll();
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+
+        idempotencyFilter = filter(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        taskScheduler.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 key로 다시 요청하면 처음 응답을 byte 단위로 같게 돌려주고 다시 처리하지 않음")
+    void testReplayReturnsIdenticalBytes() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            assertEquals(BODY, new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            response.setContentType("application/json");
+            response.getOutputStream().write(("{\"orderId\":" + System.nanoTime() + "}").getBytes(StandardCharsets.UTF_8));
+        };
+
+        MockHttpServletResponse first = execute("key-1", BODY, chain);
+        MockHttpServletResponse second = execute("key-1", BODY, chain);
+
+        assertEquals(1, executions.get());
+        assertEquals(200, second.getStatus());
+        assertEquals("application/json", second.getContentType());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertNull(first.getHeader(IdempotencyFilter.HEADER_IDEMPOTENT_REPLAYED));
+        assertEquals("true", second.getHeader(IdempotencyFilter.HEADER_IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    @DisplayName("처리 중에 같은 key로 들어온 요청은 기다리지 않고 바로 409로 거절")
+    void testConcurrentDuplicateIsRejectedWhileInFlight() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch finishFirst = new CountDownLatch(1);
+        FilterChain chain = blockingChain(executions, firstStarted, finishFirst);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> first = executorService.submit(() -> execute("key-1", BODY, chain));
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse duplicate = execute("key-1", BODY, chain);
+            assertNull(duplicate.getHeader(IdempotencyFilter.HEADER_IDEMPOTENT_REPLAYED));
+            assertEquals(1, resolvedExceptions.size());
+            assertInstanceOf(IdempotencyKeyInUseException.class, resolvedExceptions.get(0));
+
+            // 처음 요청이 끝난 뒤에는 같은 key로 처음 응답을 돌려받음
+            finishFirst.countDown();
+            MockHttpServletResponse firstResponse = first.get(5, TimeUnit.SECONDS);
+            MockHttpServletResponse replayed = execute("key-1", BODY, chain);
+
+            assertEquals(1, executions.get());
+            assertEquals(201, replayed.getStatus());
+            assertArrayEquals(firstResponse.getContentAsByteArray(), replayed.getContentAsByteArray());
+            assertEquals("true", replayed.getHeader(IdempotencyFilter.HEADER_IDEMPOTENT_REPLAYED));
+        } finally {
+            finishFirst.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("처리가 lockTtl보다 오래 걸려도 처리 중에는 key 만료 시간이 연장되어 중복 실행되지 않음")
+    void testLockIsExtendedWhileRequestRuns() throws Exception {
+        idempotencyFilter = filter(Duration.ofMillis(300));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch finishFirst = new CountDownLatch(1);
+        FilterChain chain = blockingChain(executions, firstStarted, finishFirst);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> first = executorService.submit(() -> execute("key-1", BODY, chain));
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+            // lockTtl의 몇 배가 지나도 key는 처음 요청이 잡고 있음
+            Thread.sleep(1000);
+            execute("key-1", BODY, chain);
+
+            finishFirst.countDown();
+            assertEquals(201, first.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(1, executions.get());
+            assertEquals(1, resolvedExceptions.size());
+            assertInstanceOf(IdempotencyKeyInUseException.class, resolvedExceptions.get(0));
+        } finally {
+            finishFirst.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("요청 URI 표기가 달라도 같은 API면 같은 key로 처리")
+    void testKeyIgnoresRequestUriForm() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            response.getOutputStream().write("{\"orderId\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        execute("key-1", BODY, chain);
+        MockHttpServletResponse replayed = execute("/shop" + RestUriConst.REST_URI_ORDER + ";jsessionid=1",
+                "key-1", BODY, chain);
+
+        assertEquals(1, executions.get());
+        assertEquals("true", replayed.getHeader(IdempotencyFilter.HEADER_IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    @DisplayName("실패(2xx 외) 응답은 저장하지 않고 key를 풀어서 같은 key로 다시 처리할 수 있음")
+    void testNonSuccessResponseReleasesKey() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            if (executions.incrementAndGet() == 1) {
+                ((HttpServletResponse) response).setStatus(400);
+                response.getOutputStream().write("{\"code\":\"INSUFFICIENT_STOCK\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            response.getOutputStream().write("{\"orderId\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        MockHttpServletResponse failed = execute("key-1", BODY, chain);
+        MockHttpServletResponse retried = execute("key-1", BODY, chain);
+
+        assertEquals(400, failed.getStatus());
+        assertEquals(2, executions.get());
+        assertEquals(200, retried.getStatus());
+        assertNull(retried.getHeader(IdempotencyFilter.HEADER_IDEMPOTENT_REPLAYED));
+        assertEquals("{\"orderId\":1}", retried.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("같은 key로 다른 본문을 보내면 처음 응답을 돌려주지 않고 거절")
+    void testDifferentBodyIsRejected() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            response.getOutputStream().write("{\"orderId\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        execute("key-1", BODY, chain);
+        MockHttpServletResponse mismatched = execute("key-1", "{\"items\":[{\"productId\":2,\"quantity\":1}]}", chain);
+
+        assertEquals(1, executions.get());
+        assertNull(mismatched.getHeader(IdempotencyFilter.HEADER_IDEMPOTENT_REPLAYED));
+        assertEquals(1, resolvedExceptions.size());
+        assertInstanceOf(IdempotencyKeyMismatchException.class, resolvedExceptions.get(0));
+    }
+
+    private IdempotencyFilter filter(Duration lockTtl) {
+        // GlobalExceptionHandler 대신 filter가 넘긴 예외만 기록
+        return new IdempotencyFilter(new IdempotencyStore(redisTemplate),
+                (request, response, handler, ex) -> {
+                    resolvedExceptions.add(ex);
+                    return new ModelAndView();
+                },
+                taskScheduler, lockTtl, Duration.ofMinutes(5));
+    }
+
+    // 처음 요청은 finishFirst가 열릴 때까지 처리 중으로 남음
+    private static FilterChain blockingChain(AtomicInteger executions, CountDownLatch firstStarted,
+                                             CountDownLatch finishFirst) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            firstStarted.countDown();
+            try {
+                finishFirst.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setStatus(201);
+            response.getOutputStream().write("{\"orderId\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse execute(String idempotencyKey, String body, FilterChain chain) throws Exception {
+        return execute(RestUriConst.REST_URI_ORDER, idempotencyKey, body, chain);
+    }
+
+    private MockHttpServletResponse execute(String requestUri, String idempotencyKey, String body, FilterChain chain)
+            throws Exception {
+        PrincipalDetails principal = new PrincipalDetails(USER_ID, "user@test.com", "user", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        try {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", requestUri);
+            if (requestUri.startsWith("/shop")) {
+                request.setContextPath("/shop");
+            }
+            request.setServletPath(RestUriConst.REST_URI_ORDER);
+            request.addHeader(IdempotencyFilter.HEADER_IDEMPOTENCY_KEY, idempotencyKey);
+            request.setContentType("application/json");
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            idempotencyFilter.doFilter(request, response, chain);
+            return response;
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.codedrill.shoppingmall.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+class AccessTokenDenylistTest {
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        connectionFactory.getConnection().serverCommands().flushAll();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer listenerContainer : listenerContainers) {
+            listenerContainer.destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    // 노드 하나를 흉내내는 denylist 생성
+    private AccessTokenDenylist newNode(SimpleMeterRegistry meterRegistry) {
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        AccessTokenDenylist denylist = new AccessTokenDenylist(redisTemplate, listenerContainer, meterRegistry, 1000, 0.01, false);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        listenerContainers.add(listenerContainer);
+        return denylist;
+    }
+
+    private long oneHourLater() {
+        return System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 차단하고, 그 외 토큰은 Redis 조회 없이 통과")
+    void testRevokedTokenIsBlocked() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccessTokenDenylist denylist = newNode(meterRegistry);
+
+        denylist.revoke("revoked-jti", oneHourLater());
+
+        assertTrue(denylist.isRevoked("revoked-jti"));
+        assertEquals(1.0, meterRegistry.counter("jwt.denylist.bloom.positives").count());
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(denylist.isRevoked("valid-jti-" + i));
+        }
+        // Bloom filter 음성은 Redis까지 가지 않으므로 양성 카운트는 오탐 개수만큼만 증가
+        double falsePositives = meterRegistry.counter("jwt.denylist.bloom.false-positives").count();
+        assertEquals(1.0 + falsePositives, meterRegistry.counter("jwt.denylist.bloom.positives").count());
+        assertTrue(falsePositives <= 5, "오탐이 너무 많습니다: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 토큰은 pub/sub으로 전파")
+    void testRevocationIsPropagatedToOtherNodes() {
+        AccessTokenDenylist nodeA = newNode(new SimpleMeterRegistry());
+        AccessTokenDenylist nodeB = newNode(new SimpleMeterRegistry());
+
+        nodeA.revoke("shared-jti", oneHourLater());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> nodeB.isRevoked("shared-jti"));
+    }
+
+    @Test
+    @DisplayName("새로 뜬 노드는 재구성 시 기존 폐기 목록을 가져오고, 만료된 항목은 제외")
+    void testRebuildLoadsOnlyUnexpiredEntries() throws Exception {
+        AccessTokenDenylist nodeA = newNode(new SimpleMeterRegistry());
+        nodeA.revoke("long-lived-jti", oneHourLater());
+        nodeA.revoke("short-lived-jti", System.currentTimeMillis() + 300);
+        Thread.sleep(500);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccessTokenDenylist nodeB = newNode(meterRegistry);
+        nodeB.rebuild();
+
+        assertTrue(nodeB.isRevoked("long-lived-jti"));
+        assertFalse(nodeB.isRevoked("short-lived-jti"));
+        assertEquals(1L, redisTemplate.opsForZSet().size("denylist:log"));
+    }
+
+    @Test
+    @DisplayName("Redis를 조회할 수 없으면 Bloom filter 양성 토큰은 설정에 따라 차단하거나 통과")
+    void testLookupFailurePolicy() {
+        LettuceConnectionFactory unavailable = new LettuceConnectionFactory("localhost", 1);
+        unavailable.afterPropertiesSet();
+        RedisTemplate<String, Object> unavailableTemplate = new RedisTemplate<>();
+        unavailableTemplate.setKeySerializer(new StringRedisSerializer());
+        unavailableTemplate.setValueSerializer(new StringRedisSerializer());
+        unavailableTemplate.setConnectionFactory(unavailable);
+        unavailableTemplate.afterPropertiesSet();
+
+        try {
+            SimpleMeterRegistry closedRegistry = new SimpleMeterRegistry();
+            AccessTokenDenylist failClosed = new AccessTokenDenylist(unavailableTemplate,
+                    new RedisMessageListenerContainer(), closedRegistry, 1000, 0.01, false);
+            SimpleMeterRegistry openRegistry = new SimpleMeterRegistry();
+            AccessTokenDenylist failOpen = new AccessTokenDenylist(unavailableTemplate,
+                    new RedisMessageListenerContainer(), openRegistry, 1000, 0.01, true);
+
+            // 다른 노드의 폐기 알림으로 Bloom filter에만 추가된 상태
+            Message message = new DefaultMessage(AccessTokenDenylist.CHANNEL.getBytes(), "jti".getBytes());
+            failClosed.onMessage(message, null);
+            failOpen.onMessage(message, null);
+
+            assertTrue(failClosed.isRevoked("jti"));
+            assertFalse(failOpen.isRevoked("jti"));
+            assertEquals(1.0, closedRegistry.counter("jwt.denylist.lookup-failures").count());
+            assertEquals(1.0, openRegistry.counter("jwt.denylist.lookup-failures").count());
+        } finally {
+            unavailable.destroy();
+        }
+    }
+}
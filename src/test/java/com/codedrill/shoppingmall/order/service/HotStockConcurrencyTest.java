@@ -0,0 +1,207 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.common.enums.EnumRole;
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import com.codedrill.shoppingmall.order.dto.OrderCreateRequest;
+import com.codedrill.shoppingmall.order.repository.OrderItemRepository;
+import com.codedrill.shoppingmall.product.hotstock.HotStockRepository;
+import com.codedrill.shoppingmall.user.entity.User;
+import com.codedrill.shoppingmall.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * hot 상품 주문/취소가 몰리는 중에 Redis 카운터가 사라져도 products.stock 기준으로 초과/누락 판매가 없는지 확인
+ */
+@Testcontainers
+@SpringBootTest
+class HotStockConcurrencyTest {
+
+    private static final long HOT_PRODUCT_ID = 1_000_000L;
+    private static final int BUCKETS = 4;
+    private static final int INITIAL_STOCK = 100;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("product.hot-stock.product-ids", () -> HOT_PRODUCT_ID);
+        registry.add("product.hot-stock.buckets", () -> BUCKETS);
+        registry.add("product.hot-stock.reconcile-interval", () -> "PT0.1S");
+        // bucket 사이에서 옮기는 중인 수량이 검증 시점의 합계에 섞이지 않도록 재분배는 멈춤 (HotStockRebalancerTest에서 따로 확인)
+        registry.add("product.hot-stock.rebalance-interval", () -> "PT1H");
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private HotStockRepository hotStockRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("주문/취소 중간에 Redis 카운터가 사라져도 판매 수량은 재고를 넘지 않고, 남은 재고는 모두 다시 판매 가능")
+    void testConcurrentOrdersWithCounterWipe() throws Exception {
+        jdbcTemplate.update("INSERT INTO products (id, status, name, price, stock, user_id, version, created_at, updated_at) "
+                + "VALUES (?, 'APPROVED', 'hot 상품', 1000, ?, 1, 0, now(), now())", HOT_PRODUCT_ID, INITIAL_STOCK);
+
+        int threadCount = 16;
+        int attemptsPerThread = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < threadCount; i++) {
+            PrincipalDetails user = createUser();
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    try {
+                        Long orderId = orderService.createOrder(orderRequest(), user).getId();
+                        created.incrementAndGet();
+                        // 일부 주문은 바로 취소해서 취소로 되돌리는 수량도 카운터 유실과 겹치게 함
+                        if (j % 3 == 0) {
+                            orderService.cancelOrder(orderId, user);
+                            cancelled.incrementAndGet();
+                        }
+                    } catch (BusinessException e) {
+                        if (e.getErrorCode() != ErrorCode.INSUFFICIENT_STOCK) {
+                            unexpected.add(e);
+                        }
+                    } catch (Throwable e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        await().atMost(Duration.ofSeconds(30)).until(() -> created.get() >= 30);
+        Objects.requireNonNull(redisTemplate.keys("stock:{" + HOT_PRODUCT_ID + ":*")).forEach(redisTemplate::delete);
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        assertTrue(unexpected.isEmpty(), () -> "unexpected: " + unexpected);
+
+        awaitReconciled();
+        int sold = created.get() - cancelled.get();
+        assertEquals(sold, soldQuantity());
+        assertTrue(sold <= INITIAL_STOCK);
+        assertEquals(INITIAL_STOCK - sold, productStock());
+        assertEquals(productStock(), counterTotal());
+
+        // 남은 재고는 빠짐없이 다시 판매 가능
+        PrincipalDetails user = createUser();
+        int remaining = INITIAL_STOCK - sold;
+        for (int i = 0; i < remaining; i++) {
+            orderService.createOrder(orderRequest(), user);
+        }
+        BusinessException soldOut = assertThrows(BusinessException.class,
+                () -> orderService.createOrder(orderRequest(), user));
+        assertEquals(ErrorCode.INSUFFICIENT_STOCK, soldOut.getErrorCode());
+
+        awaitReconciled();
+        assertEquals(INITIAL_STOCK, soldQuantity());
+        assertEquals(0, productStock());
+        assertEquals(0, counterTotal());
+    }
+
+    private void awaitReconciled() {
+        await().atMost(Duration.ofSeconds(30))
+                .until(() -> orderItemRepository.findStockPendingProductIds().isEmpty());
+    }
+
+    private int soldQuantity() {
+        Integer sold = jdbcTemplate.queryForObject("""
+                SELECT coalesce(sum(i.quantity), 0) FROM order_items i JOIN orders o ON o.id = i.order_id
+                WHERE i.product_id = ? AND o.status <> 'CANCELLED'
+                """, Integer.class, HOT_PRODUCT_ID);
+        return sold == null ? 0 : sold;
+    }
+
+    private int productStock() {
+        Integer stock = jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, HOT_PRODUCT_ID);
+        return stock == null ? 0 : stock;
+    }
+
+    private long counterTotal() {
+        List<Long> stocks = hotStockRepository.getAll(HOT_PRODUCT_ID, BUCKETS);
+        assertTrue(stocks.stream().allMatch(Objects::nonNull));
+        return stocks.stream().mapToLong(Long::longValue).sum();
+    }
+
+    private PrincipalDetails createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("테스트유저")
+                .role(EnumRole.USER)
+                .build());
+        return new PrincipalDetails(user.getId(), email, user.getName(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private OrderCreateRequest orderRequest() {
+        List<Map<String, Object>> items = List.of(Map.of("productId", HOT_PRODUCT_ID, "quantity", 1));
+        return objectMapper.convertValue(Map.of("items", items), OrderCreateRequest.class);
+    }
+}
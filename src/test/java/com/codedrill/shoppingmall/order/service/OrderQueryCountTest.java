@@ -0,0 +1,192 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.common.enums.EnumProductStatus;
+import com.codedrill.shoppingmall.common.enums.EnumRole;
+import com.codedrill.shoppingmall.order.dto.OrderCreateRequest;
+import com.codedrill.shoppingmall.order.dto.OrderDetailResponse;
+import com.codedrill.shoppingmall.order.dto.OrderItemResponse;
+import com.codedrill.shoppingmall.product.entity.Product;
+import com.codedrill.shoppingmall.product.repository.ProductRepository;
+import com.codedrill.shoppingmall.user.entity.User;
+import com.codedrill.shoppingmall.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 주문 처리 중 실행되는 SQL 개수 확인
+ * - Hibernate StatementInspector로 테스트 스레드에서 실행된 SQL만 기록 (스케줄러 등 다른 스레드의 SQL은 제외)
+ */
+@Testcontainers
+@SpringBootTest
+class OrderQueryCountTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorderCustomizer(StatementRecorder statementRecorder) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementRecorder);
+        }
+    }
+
+    static class StatementRecorder implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+        private volatile Thread recordingThread;
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == recordingThread) {
+                statements.add(sql.toLowerCase(Locale.ROOT));
+            }
+            return sql;
+        }
+
+        List<String> record(Runnable action) {
+            statements.clear();
+            recordingThread = Thread.currentThread();
+            try {
+                action.run();
+            } finally {
+                recordingThread = null;
+            }
+            return new ArrayList<>(statements);
+        }
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PrincipalDetails createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("테스트유저")
+                .role(EnumRole.USER)
+                .build());
+        return new PrincipalDetails(user.getId(), email, user.getName(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private List<Long> createProducts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> productRepository.save(Product.builder()
+                        .status(EnumProductStatus.APPROVED)
+                        .name("조회 테스트 상품 " + i)
+                        .price(1000L + i)
+                        .stock(100)
+                        .userId(1L)
+                        .build()).getId())
+                .toList();
+    }
+
+    private OrderCreateRequest orderRequest(List<Long> productIds) {
+        List<Map<String, Object>> items = productIds.stream()
+                .map(productId -> Map.<String, Object>of("productId", productId, "quantity", 1))
+                .toList();
+        return objectMapper.convertValue(Map.of("items", items), OrderCreateRequest.class);
+    }
+
+    private static long count(List<String> statements, String keyword) {
+        return statements.stream().filter(sql -> sql.contains(keyword)).count();
+    }
+
+    @Test
+    @DisplayName("주문 항목 수와 관계없이 상품 조회와 INSERT 개수는 같음")
+    void testOrderCreationUsesConstantQueries() {
+        PrincipalDetails user = createUser();
+        List<Long> productIds = createProducts(10);
+
+        // sequence 할당 등 첫 주문에서만 생기는 SQL은 측정에서 제외
+        orderService.createOrder(orderRequest(productIds.subList(0, 1)), user);
+
+        List<String> single = statementRecorder.record(
+                () -> orderService.createOrder(orderRequest(productIds.subList(0, 1)), user));
+        List<String> multiple = statementRecorder.record(
+                () -> orderService.createOrder(orderRequest(productIds), user));
+
+        assertEquals(1, count(single, "from products"));
+        assertEquals(1, count(multiple, "from products"));
+        assertEquals(count(single, "select"), count(multiple, "select"));
+        assertEquals(count(single, "insert"), count(multiple, "insert"));
+        // 재고 차감은 상품마다 조건부 UPDATE 한 번 (ATOMIC)
+        assertEquals(10, count(multiple, "update products"));
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회는 주문 항목 수와 관계없이 쿼리 한 번")
+    void testOrderDetailUsesSingleQuery() {
+        PrincipalDetails user = createUser();
+        List<Long> productIds = createProducts(10);
+        Long orderId = orderService.createOrder(orderRequest(productIds), user).getId();
+
+        List<OrderDetailResponse> details = new ArrayList<>();
+        List<String> statements = statementRecorder.record(() -> details.add(orderService.getOrder(orderId, user)));
+
+        assertEquals(1, statements.size());
+        OrderDetailResponse detail = details.get(0);
+        assertEquals(10, detail.getItems().size());
+        assertEquals(productIds, detail.getItems().stream().map(OrderItemResponse::getProductId).toList());
+        assertEquals("조회 테스트 상품 0", detail.getItems().get(0).getProductName());
+    }
+}
@@ -0,0 +1,208 @@
+package com.codedrill.shoppingmall.order.service;
+
+import com.codedrill.shoppingmall.common.entity.PrincipalDetails;
+import com.codedrill.shoppingmall.common.enums.EnumRole;
+import com.codedrill.shoppingmall.common.enums.EnumStockLockStrategy;
+import com.codedrill.shoppingmall.common.exception.BusinessException;
+import com.codedrill.shoppingmall.common.exception.ErrorCode;
+import com.codedrill.shoppingmall.order.dto.OrderCreateRequest;
+import com.codedrill.shoppingmall.user.entity.User;
+import com.codedrill.shoppingmall.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 재고 차감 방식(order.stock.lock-strategy)별 동시 주문 결과 확인
+ * - 재고 50개인 상품에 100명이 동시에 1개씩 주문
+ * - 방식마다 Spring context가 달라야 하므로 방식별 하위 클래스로 실행
+ * - 처리 시간과 낙관적 락 충돌/재시도 횟수(optimistic.retry.* 메트릭)는 로그로 남겨서 방식끼리 비교
+ */
+@Testcontainers
+@SpringBootTest
+abstract class StockLockStrategyConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StockLockStrategyConcurrencyTest.class);
+
+    private static final long PRODUCT_ID = 2_000_000L;
+    private static final int INITIAL_STOCK = 50;
+    private static final int THREAD_COUNT = 100;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @TestPropertySource(properties = "order.stock.lock-strategy=ATOMIC")
+    static class AtomicTest extends StockLockStrategyConcurrencyTest {
+    }
+
+    @TestPropertySource(properties = "order.stock.lock-strategy=PESSIMISTIC")
+    static class PessimisticTest extends StockLockStrategyConcurrencyTest {
+    }
+
+    @TestPropertySource(properties = "order.stock.lock-strategy=OPTIMISTIC")
+    static class OptimisticTest extends StockLockStrategyConcurrencyTest {
+    }
+
+    @Value("${order.stock.lock-strategy}")
+    private EnumStockLockStrategy lockStrategy;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("동시에 주문해도 판매 수량은 재고를 넘지 않고, 충돌로 포기한 주문이 없으면 재고를 모두 판매")
+    void testConcurrentOrdersNeverOversell() throws Exception {
+        jdbcTemplate.update("INSERT INTO products (id, status, name, price, stock, user_id, version, created_at, updated_at) "
+                + "VALUES (?, 'APPROVED', '동시 주문 상품', 1000, ?, 1, 0, now(), now())", PRODUCT_ID, INITIAL_STOCK);
+
+        List<PrincipalDetails> users = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            users.add(createUser());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        AtomicInteger concurrentModification = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        for (PrincipalDetails user : users) {
+            executor.submit(() -> {
+                start.await();
+                try {
+                    orderService.createOrder(orderRequest(), user);
+                    succeeded.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_STOCK) {
+                        insufficient.incrementAndGet();
+                    } else if (e.getErrorCode() == ErrorCode.CONCURRENT_MODIFICATION) {
+                        concurrentModification.incrementAndGet();
+                    } else {
+                        unexpected.add(e);
+                    }
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+                return null;
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        double conflicts = count("optimistic.retry.conflicts");
+        double retries = count("optimistic.retry.retries");
+        double exhausted = count("optimistic.retry.exhausted");
+        log.info("lock-strategy: {}, elapsed: {}ms, succeeded: {}, insufficient: {}, concurrentModification: {}, "
+                        + "conflicts: {}, retries: {}, exhausted: {}, conflict rate: {}",
+                lockStrategy, elapsedMs, succeeded.get(), insufficient.get(), concurrentModification.get(),
+                conflicts, retries, exhausted, conflicts / THREAD_COUNT);
+
+        assertTrue(unexpected.isEmpty(), () -> "unexpected: " + unexpected);
+        assertEquals(THREAD_COUNT, succeeded.get() + insufficient.get() + concurrentModification.get());
+        assertTrue(succeeded.get() <= INITIAL_STOCK);
+        assertEquals(INITIAL_STOCK - succeeded.get(), productStock());
+        assertEquals(succeeded.get(), soldQuantity());
+        if (exhausted == 0) {
+            assertEquals(INITIAL_STOCK, succeeded.get());
+        }
+        // 조건부 UPDATE와 SELECT ... FOR UPDATE는 version 충돌이 나지 않음
+        if (lockStrategy != EnumStockLockStrategy.OPTIMISTIC) {
+            assertEquals(0, conflicts);
+            assertEquals(0, concurrentModification.get());
+        }
+    }
+
+    private double count(String name) {
+        return meterRegistry.find(name).tag("operation", "order.create").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private int productStock() {
+        Integer stock = jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, PRODUCT_ID);
+        return stock == null ? 0 : stock;
+    }
+
+    private int soldQuantity() {
+        Integer sold = jdbcTemplate.queryForObject(
+                "SELECT coalesce(sum(quantity), 0) FROM order_items WHERE product_id = ?", Integer.class, PRODUCT_ID);
+        return sold == null ? 0 : sold;
+    }
+
+    private PrincipalDetails createUser() {
+        String email = UUID.randomUUID() + "@test.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("테스트유저")
+                .role(EnumRole.USER)
+                .build());
+        return new PrincipalDetails(user.getId(), email, user.getName(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private OrderCreateRequest orderRequest() {
+        List<Map<String, Object>> items = List.of(Map.of("productId", PRODUCT_ID, "quantity", 1));
+        return objectMapper.convertValue(Map.of("items", items), OrderCreateRequest.class);
+    }
+}
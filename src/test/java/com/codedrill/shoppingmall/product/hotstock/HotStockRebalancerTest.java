@@ -0,0 +1,81 @@
+package com.codedrill.shoppingmall.product.hotstock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+class HotStockRebalancerTest {
+
+    private static final long PRODUCT_ID = 1L;
+    private static final int BUCKETS = 4;
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private HotStockRepository hotStockRepository;
+    private HotStockRebalancer hotStockRebalancer;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        connectionFactory.getConnection().serverCommands().flushAll();
+        hotStockRepository = new HotStockRepository(redisTemplate);
+
+        HotStockService hotStockService = mock(HotStockService.class);
+        when(hotStockService.getBuckets()).thenReturn(BUCKETS);
+        when(hotStockService.getHotProductIds()).thenReturn(Set.of(PRODUCT_ID));
+        hotStockRebalancer = new HotStockRebalancer(hotStockService, hotStockRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("바닥난 bucket에 가장 많이 남은 bucket의 재고를 옮기고 전체 합계는 유지")
+    void testMovesStockToEmptyBuckets() {
+        hotStockRepository.reseed(PRODUCT_ID, List.of(0L, 0L, 12L, 4L));
+
+        hotStockRebalancer.rebalance();
+
+        assertEquals(List.of(4L, 4L, 4L, 4L), hotStockRepository.getAll(PRODUCT_ID, BUCKETS));
+    }
+
+    @Test
+    @DisplayName("bucket이 하나라도 없으면(reseed 전) 옮기지 않음")
+    void testSkipsWhenBucketIsMissing() {
+        hotStockRepository.reseed(PRODUCT_ID, List.of(0L, 12L, 4L));
+
+        hotStockRebalancer.rebalance();
+
+        assertEquals(Arrays.asList(0L, 12L, 4L, null), hotStockRepository.getAll(PRODUCT_ID, BUCKETS));
+    }
+}
@@ -0,0 +1,138 @@
+package com.codedrill.shoppingmall.product.hotstock;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+class HotStockRepositoryTest {
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private HotStockRepository hotStockRepository;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        connectionFactory.getConnection().serverCommands().flushAll();
+        hotStockRepository = new HotStockRepository(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("동시에 주문이 몰려도 bucket 재고 이상으로 차감되지 않음")
+    void testConcurrentTakeNeverOversells() throws Exception {
+        int stock = 100;
+        int buckets = 4;
+        int threadCount = 32;
+        int attemptsPerThread = 20;
+        hotStockRepository.reseed(1L, List.of(25L, 25L, 25L, 25L));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger taken = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            int bucket = i % buckets;
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    taken.addAndGet((int) hotStockRepository.take(1L, bucket, 1).quantity());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(stock, taken.get());
+        assertEquals(List.of(0L, 0L, 0L, 0L), hotStockRepository.getAll(1L, buckets));
+    }
+
+    @Test
+    @DisplayName("bucket에 남은 만큼만 차감하고 다른 bucket은 건드리지 않으며, 되돌린 수량은 다시 차감 가능")
+    void testTakeAndRelease() {
+        long epoch = hotStockRepository.reseed(1L, List.of(3L, 10L));
+
+        assertEquals(new HotStockRepository.Taken(3, epoch), hotStockRepository.take(1L, 0, 5));
+        assertEquals(List.of(0L, 10L), hotStockRepository.getAll(1L, 2));
+        assertEquals(new HotStockRepository.Taken(0, epoch), hotStockRepository.take(1L, 0, 5));
+
+        assertEquals(2L, hotStockRepository.release(1L, 0, 2, epoch));
+        assertEquals(new HotStockRepository.Taken(2, epoch), hotStockRepository.take(1L, 0, 2));
+        assertEquals(new HotStockRepository.Taken(5, epoch), hotStockRepository.take(1L, 1, 5));
+        assertEquals(List.of(0L, 5L), hotStockRepository.getAll(1L, 2));
+    }
+
+    @Test
+    @DisplayName("bucket마다 Cluster slot이 다르고, 한 bucket의 재고와 epoch는 같은 slot")
+    void testBucketsUseSeparateSlots() {
+        hotStockRepository.reseed(1L, List.of(1L, 1L));
+
+        Set<String> keys = redisTemplate.keys("stock:{1:*");
+        assertEquals(Set.of("stock:{1:0}", "stock:{1:0}:epoch", "stock:{1:1}", "stock:{1:1}:epoch"), keys);
+        assertEquals(SlotHash.getSlot("stock:{1:0}"), SlotHash.getSlot("stock:{1:0}:epoch"));
+        assertNotEquals(SlotHash.getSlot("stock:{1:0}"), SlotHash.getSlot("stock:{1:1}"));
+    }
+
+    @Test
+    @DisplayName("bucket이 없으면 차감/복구하지 않고, reseed 이전 epoch로 되돌린 수량은 무시")
+    void testStaleReleaseIsDroppedAfterReseed() {
+        assertNull(hotStockRepository.take(1L, 0, 1));
+        assertEquals(HotStockRepository.NOT_INITIALIZED, hotStockRepository.release(1L, 0, 1, 1));
+        assertNull(hotStockRepository.getEpoch(1L, 0));
+
+        long epoch = hotStockRepository.reseed(1L, List.of(10L));
+        assertEquals(new HotStockRepository.Taken(4, epoch), hotStockRepository.take(1L, 0, 4));
+
+        // 카운터 유실 후 DB 기준으로 다시 채움 (차감한 4개는 DB 기준 값에 이미 반영)
+        connectionFactory.getConnection().serverCommands().flushAll();
+        assertNull(hotStockRepository.take(1L, 0, 1));
+        long reseeded = hotStockRepository.reseed(1L, List.of(6L));
+
+        assertTrue(reseeded > epoch);
+        assertEquals(HotStockRepository.NOT_INITIALIZED, hotStockRepository.release(1L, 0, 4, epoch));
+        assertEquals(List.of(6L), hotStockRepository.getAll(1L, 1));
+        assertEquals(reseeded, hotStockRepository.getEpoch(1L, 0));
+        assertEquals(Arrays.asList(6L, null), hotStockRepository.getAll(1L, 2));
+    }
+}